@@ -0,0 +1,25 @@
+package com.devteam.academicservice.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calls identity-service directly through Eureka. Use {@link UserDirectory} instead of calling
+ * this client from request handling code, so lookups are cached and batched.
+ */
+@FeignClient(name = "identity-service", path = "/api/v1/identity/users", configuration = IdentityClientConfiguration.class)
+public interface IdentityClient {
+
+    /**
+     * Maximum number of ids identity-service accepts in one batch
+     */
+    int MAX_BATCH_SIZE = 500;
+
+    @PostMapping("/batch")
+    List<UserSummary> getUsers(@RequestBody Map<String, List<String>> request);
+
+}
@@ -0,0 +1,30 @@
+package com.devteam.academicservice.client;
+
+import feign.RequestInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Feign configuration of {@link IdentityClient} only. Deliberately not a @Configuration so
+ * the interceptor does not leak into other Feign clients.
+ *
+ * identity-service authenticates the batch endpoint, so the caller's bearer token is forwarded.
+ */
+public class IdentityClientConfiguration {
+
+    @Bean
+    public RequestInterceptor forwardAuthorizationHeader() {
+        return template -> {
+            if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+                final HttpServletRequest request = attributes.getRequest();
+                final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+                if (authorization != null) {
+                    template.header(HttpHeaders.AUTHORIZATION, authorization);
+                }
+            }
+        };
+    }
+}
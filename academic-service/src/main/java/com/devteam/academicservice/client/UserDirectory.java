@@ -0,0 +1,103 @@
+package com.devteam.academicservice.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Near-cache in front of identity-service's batch user lookup.
+ *
+ * All ids missing from the cache are resolved in a single batch call (chunked at
+ * {@link IdentityClient#MAX_BATCH_SIZE}). Lookups are coalesced: an id already being loaded by
+ * another request waits for that load instead of issuing its own call. When identity-service is
+ * unreachable the missing ids are simply left out, so callers fall back to denormalized names.
+ */
+@Slf4j
+@Component
+public class UserDirectory {
+
+    private final IdentityClient identityClient;
+    private final AsyncCache<String, UserSummary> cache;
+
+    public UserDirectory(
+            IdentityClient identityClient,
+            @Value("${identity.user-cache.max-size:10000}") long maxSize,
+            @Value("${identity.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.identityClient = identityClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * Resolve the given user ids, keyed by id. Unknown ids are absent from the result.
+     */
+    public Map<String, UserSummary> getUsers(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // The loader runs on the calling thread, so the caller's token is forwarded. Caffeine rethrows
+        // an exception thrown by the loader as is, so a failure is returned as a failed future instead.
+        final CompletableFuture<Map<String, UserSummary>> users = this.cache.getAll(
+                userIds,
+                (missingIds, executor) -> {
+                    try {
+                        return CompletableFuture.completedFuture(load(missingIds));
+                    } catch (RuntimeException e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                });
+        try {
+            return users.join();
+        } catch (CompletionException e) {
+            log.warn("Failed to resolve {} user(s) from identity-service: {}", userIds.size(), e.getCause().getMessage());
+            return resolveCached(userIds);
+        }
+    }
+
+    public UserSummary getUser(String userId) {
+        return getUsers(List.of(userId)).get(userId);
+    }
+
+    public void evict(String userId) {
+        this.cache.synchronous().invalidate(userId);
+    }
+
+    private Map<String, UserSummary> load(Set<? extends String> missingIds) {
+        final List<String> ids = new ArrayList<>(missingIds);
+        final Map<String, UserSummary> loaded = new HashMap<>(ids.size());
+
+        for (int from = 0; from < ids.size(); from += IdentityClient.MAX_BATCH_SIZE) {
+            final List<String> chunk = ids.subList(from, Math.min(from + IdentityClient.MAX_BATCH_SIZE, ids.size()));
+            for (UserSummary user : this.identityClient.getUsers(Map.of("ids", chunk))) {
+                loaded.put(user.id(), user);
+            }
+        }
+        return loaded;
+    }
+
+    private Map<String, UserSummary> resolveCached(Collection<String> userIds) {
+        final Map<String, UserSummary> cached = new HashMap<>();
+        for (String userId : userIds) {
+            final UserSummary user = this.cache.synchronous().getIfPresent(userId);
+            if (user != null) {
+                cached.put(userId, user);
+            }
+        }
+        return cached;
+    }
+}
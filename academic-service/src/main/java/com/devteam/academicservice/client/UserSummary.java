@@ -0,0 +1,12 @@
+package com.devteam.academicservice.client;
+
+/**
+ * Public fields of a user as returned by identity-service's batch lookup
+ */
+public record UserSummary(
+        String id,
+        String firstname,
+        String lastname,
+        String email,
+        String role
+) {}
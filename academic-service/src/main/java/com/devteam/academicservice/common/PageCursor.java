@@ -0,0 +1,54 @@
+package com.devteam.academicservice.common;
+
+import com.devteam.academicservice.exception.BusinessException;
+import com.devteam.academicservice.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort-key values of the last row of a page, joined and base64url-encoded.
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object... values) {
+        final StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(values[i] != null ? values[i] : "");
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor made of exactly the given number of values, or fail with INVALID_CURSOR
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        try {
+            final String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            if (values.length != expectedValues) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static LocalDateTime parseDate(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
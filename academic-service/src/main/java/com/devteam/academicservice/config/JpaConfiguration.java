@@ -1,5 +1,6 @@
 package com.devteam.academicservice.config;
 
+import com.devteam.academicservice.client.IdentityClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
@@ -7,6 +8,6 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @Configuration
 @EnableJpaAuditing
 //        (auditorAwareRef = "auditorAware")
-@EnableFeignClients
+@EnableFeignClients(basePackageClasses = IdentityClient.class)
 public class JpaConfiguration {
 }
@@ -0,0 +1,75 @@
+package com.devteam.academicservice.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies memberships from the old COURSES_MEMBERS / MEMBERS join tables into ENROLLMENTS.
+ *
+ * Runs at startup once Hibernate has created ENROLLMENTS, does nothing when the old tables do
+ * not exist and is idempotent, so it is safe to leave enabled across restarts. The old tables
+ * are left in place; drop them once every instance runs this version. Until then their foreign
+ * key to COURSES is still enforced, so a course's legacy rows must go before the course does.
+ */
+@Slf4j
+@Component
+public class LegacyMembershipMigration {
+
+    private static final String MIGRATE = """
+            INSERT INTO ENROLLMENTS (COURSE_ID, USER_ID, ROLE, FIRSTNAME, LASTNAME, JOINED_DATE)
+            SELECT DISTINCT ON (cm.COURSES_ID, m.MEMBER_ID)
+                   cm.COURSES_ID,
+                   m.MEMBER_ID,
+                   CASE WHEN m.MEMBER_ID = c.TEACHER_ID THEN 'CREATOR' ELSE 'MEMBER' END,
+                   m.FIRSTNAME,
+                   m.LASTNAME,
+                   c.CREATED_DATE
+            FROM COURSES_MEMBERS cm
+            JOIN MEMBERS m ON m.ID = cm.MEMBERS_ID
+            JOIN COURSES c ON c.ID = cm.COURSES_ID
+            WHERE m.MEMBER_ID IS NOT NULL
+            ON CONFLICT (COURSE_ID, USER_ID) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean migrationEnabled;
+    private boolean legacyTablesExist;
+
+    public LegacyMembershipMigration(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.enrollment.migrate-legacy-members:true}") boolean migrationEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationEnabled = migrationEnabled;
+    }
+
+    @PostConstruct
+    void detectLegacyTables() {
+        this.legacyTablesExist = Boolean.TRUE.equals(this.jdbcTemplate.queryForObject(
+                "SELECT to_regclass('courses_members') IS NOT NULL AND to_regclass('members') IS NOT NULL",
+                Boolean.class));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!this.migrationEnabled || !this.legacyTablesExist) {
+            return;
+        }
+
+        final int migrated = this.jdbcTemplate.update(MIGRATE);
+        log.info("Migrated {} legacy course membership(s) into ENROLLMENTS", migrated);
+    }
+
+    /**
+     * Remove a course's rows from the old join table, whose foreign key would otherwise block deleting the course
+     */
+    public void deleteLegacyMemberships(String courseId) {
+        if (this.legacyTablesExist) {
+            this.jdbcTemplate.update("DELETE FROM COURSES_MEMBERS WHERE COURSES_ID = ?", courseId);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.devteam.academicservice.controller;
 
+import com.devteam.academicservice.dto.request.BulkEnrollmentRequestDTO;
 import com.devteam.academicservice.dto.request.CreateCourseDTO;
 import com.devteam.academicservice.dto.request.UpdateCourseRequestDTO;
+import com.devteam.academicservice.dto.response.BulkEnrollmentResponseDTO;
 import com.devteam.academicservice.dto.response.CourseDetailsResponseDTO;
-import com.devteam.academicservice.dto.response.CourseResponse;
-import com.devteam.academicservice.model.Course;
+import com.devteam.academicservice.dto.response.CoursePageResponseDTO;
+import com.devteam.academicservice.dto.response.InviteCodeResponseDTO;
+import com.devteam.academicservice.dto.response.MemberPageResponseDTO;
+import com.devteam.academicservice.model.MemberSort;
 import com.devteam.academicservice.service.CourseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +17,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/academic/courses")
 @RequiredArgsConstructor
@@ -23,8 +25,22 @@ public class CourseController {
     private final CourseService courseService;
 
     @GetMapping("/all")
-    public ResponseEntity<List<Course>> getAllCourses() {
-        return ResponseEntity.ok(this.courseService.getAllCourses());
+    public ResponseEntity<CoursePageResponseDTO> getAllCourses(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String name) {
+        return ResponseEntity.ok(this.courseService.getAllCourses(cursor, size, name));
+    }
+
+    /**
+     * Full-text search over course names and descriptions; every word is matched as a prefix
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CoursePageResponseDTO> searchCourses(
+            @RequestParam("q") final String query,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size) {
+        return ResponseEntity.ok(this.courseService.searchCourses(query, cursor, size));
     }
 
     @GetMapping("/{courseId}")
@@ -32,9 +48,28 @@ public class CourseController {
         return ResponseEntity.ok(this.courseService.getCourseById(courseId));
     }
 
+    @GetMapping("/{courseId}/members")
+    public ResponseEntity<MemberPageResponseDTO> getCourseMembers(
+            @PathVariable final String courseId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "50") final int size,
+            @RequestParam(defaultValue = "NAME") final MemberSort sort,
+            @RequestParam(name = "q", required = false) final String name) {
+        return ResponseEntity.ok(this.courseService.getCourseMembers(courseId, cursor, size, sort, name));
+    }
+
+    @PostMapping("/{courseId}/members")
+    @PreAuthorize("hasRole('TEACHER')")
+    public ResponseEntity<BulkEnrollmentResponseDTO> enrollMembers(@PathVariable final String courseId, @Valid @RequestBody final BulkEnrollmentRequestDTO requestDTO) {
+        return ResponseEntity.ok(this.courseService.enrollMembers(courseId, requestDTO));
+    }
+
     @GetMapping("/")
-    public ResponseEntity<List<CourseResponse>> getAllCoursesById() {
-        return ResponseEntity.ok(this.courseService.getAllCoursesById());
+    public ResponseEntity<CoursePageResponseDTO> getAllCoursesById(
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size,
+            @RequestParam(required = false) final String name) {
+        return ResponseEntity.ok(this.courseService.getAllCoursesById(cursor, size, name));
     }
 
     @PostMapping("/create")
@@ -61,6 +96,12 @@ public class CourseController {
         this.courseService.addMember(invitedCode);
     }
 
+    @PatchMapping("/{courseId}/invite-code")
+    @PreAuthorize("hasRole('TEACHER')")
+    public ResponseEntity<InviteCodeResponseDTO> regenerateInviteCode(@PathVariable final String courseId) {
+        return ResponseEntity.ok(this.courseService.regenerateInviteCode(courseId));
+    }
+
     @PatchMapping("/{courseId}/{memberId}")
     @PreAuthorize("hasRole('TEACHER')")
     @ResponseStatus(HttpStatus.NO_CONTENT)
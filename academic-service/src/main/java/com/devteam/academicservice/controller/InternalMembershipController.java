@@ -0,0 +1,42 @@
+package com.devteam.academicservice.controller;
+
+import com.devteam.academicservice.dto.response.MembershipResponseDTO;
+import com.devteam.academicservice.service.MembershipIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Membership lookups for other services. Not routed by the gateway.
+ */
+@RestController
+@RequestMapping("/internal/v1/academic")
+@RequiredArgsConstructor
+public class InternalMembershipController {
+
+    private final MembershipIndex membershipIndex;
+
+    @GetMapping("/courses/{courseId}/members/{userId}")
+    public ResponseEntity<MembershipResponseDTO> isMember(
+            @PathVariable final String courseId,
+            @PathVariable final String userId) {
+        return ResponseEntity.ok(MembershipResponseDTO.builder()
+                .courseId(courseId)
+                .userId(userId)
+                .member(this.membershipIndex.isMember(courseId, userId))
+                .build());
+    }
+
+    /**
+     * Ids of the courses of userId that otherUserId is also enrolled in
+     */
+    @GetMapping("/users/{userId}/courses")
+    public ResponseEntity<List<String>> getSharedCourses(
+            @PathVariable final String userId,
+            @RequestParam("containing") final String otherUserId) {
+        return ResponseEntity.ok(this.membershipIndex.getSharedCourses(userId, otherUserId));
+    }
+
+}
@@ -1,16 +0,0 @@
-package com.devteam.academicservice.controller;
-
-//import com.devteam.academicservice.dto.response.UserResponseDTO;
-import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
-import org.springframework.web.bind.annotation.RestController;
-
-//@RestController
-//@FeignClient(name = "identity-service", fallback = UserClientFallback.class)
-public interface PrivateController {
-
-//    @GetMapping
-//    UserResponseDTO
-
-}
@@ -0,0 +1,23 @@
+package com.devteam.academicservice.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BulkEnrollmentRequestDTO {
+
+    @JsonProperty("user_ids")
+    @NotEmpty(message = "VALIDATION.ENROLLMENT.USER_IDS.NOT_EMPTY")
+    @Size(max = 10000, message = "VALIDATION.ENROLLMENT.USER_IDS.SIZE")
+    private List<@NotBlank(message = "VALIDATION.ENROLLMENT.USER_ID.NOT_BLANK") String> userIds;
+
+}
@@ -0,0 +1,27 @@
+package com.devteam.academicservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BulkEnrollmentResponseDTO {
+
+    @JsonProperty("enrolled")
+    private List<String> enrolled;
+
+    @JsonProperty("already_members")
+    private List<String> alreadyMembers;
+
+    /**
+     * Ids identity-service does not know, left out of the course
+     */
+    @JsonProperty("unknown_users")
+    private List<String> unknownUsers;
+
+}
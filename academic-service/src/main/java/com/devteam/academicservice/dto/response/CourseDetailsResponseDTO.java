@@ -1,12 +1,10 @@
 package com.devteam.academicservice.dto.response;
 
-import com.devteam.academicservice.model.Member;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -42,8 +40,8 @@ public class CourseDetailsResponseDTO {
     @JsonProperty("course_invited_code")
     private String invitedCode;
 
-    @JsonProperty("members")
-    private List<Member> members;
+    @JsonProperty("member_count")
+    private long memberCount;
 
     @JsonProperty("created_date")
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
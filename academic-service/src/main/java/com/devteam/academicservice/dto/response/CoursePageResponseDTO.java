@@ -0,0 +1,24 @@
+package com.devteam.academicservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CoursePageResponseDTO {
+
+    @JsonProperty("courses")
+    private List<CourseResponse> courses;
+
+    /**
+     * Opaque cursor for the next page, null on the last page
+     */
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+}
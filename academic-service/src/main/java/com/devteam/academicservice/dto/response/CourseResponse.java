@@ -1,8 +1,11 @@
 package com.devteam.academicservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,4 +34,8 @@ public class CourseResponse {
     @JsonProperty("sub_teacher_name")
     private String subTeacherName;
 
+    @JsonProperty("created_date")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdDate;
+
 }
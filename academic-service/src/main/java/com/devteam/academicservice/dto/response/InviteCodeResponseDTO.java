@@ -0,0 +1,16 @@
+package com.devteam.academicservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class InviteCodeResponseDTO {
+
+    @JsonProperty("course_invited_code")
+    private String invitedCode;
+
+}
@@ -0,0 +1,32 @@
+package com.devteam.academicservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberPageResponseDTO {
+
+    @JsonProperty("members")
+    private List<MemberResponseDTO> members;
+
+    /**
+     * Size of the whole roster, only returned with the first page
+     */
+    @JsonProperty("total")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    /**
+     * Opaque cursor for the next page, null on the last page
+     */
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+}
@@ -0,0 +1,33 @@
+package com.devteam.academicservice.dto.response;
+
+import com.devteam.academicservice.model.Role;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MemberResponseDTO {
+
+    @JsonProperty("memberId")
+    private String memberId;
+
+    @JsonProperty("firstname")
+    private String firstname;
+
+    @JsonProperty("lastname")
+    private String lastname;
+
+    @JsonProperty("role")
+    private Role role;
+
+    @JsonProperty("joined_date")
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime joinedDate;
+
+}
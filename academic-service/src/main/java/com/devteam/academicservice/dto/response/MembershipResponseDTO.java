@@ -0,0 +1,22 @@
+package com.devteam.academicservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class MembershipResponseDTO {
+
+    @JsonProperty("course_id")
+    private String courseId;
+
+    @JsonProperty("user_id")
+    private String userId;
+
+    @JsonProperty("member")
+    private boolean member;
+
+}
@@ -10,7 +10,9 @@ public enum ErrorCode {
     // Course related errors
     COURSE_NOTFOUND("COURSE_NOT_FOUND","Course not found with id: %s", HttpStatus.NOT_FOUND),
     COURSE_ALREADY_EXISTS("COURSE_ALREADY_EXISTS","Course with code '%s' already exists", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("INVALID_CURSOR", "Invalid page cursor", HttpStatus.BAD_REQUEST),
     INVALID_MEMBER("INVALID_MEMBER", "You are not a member of course: %s", HttpStatus.FORBIDDEN),
+    NOT_COURSE_TEACHER("NOT_COURSE_TEACHER", "You are not a teacher of course: %s", HttpStatus.FORBIDDEN),
     
     // General errors
     INTERNAL_EXCEPTION("INTERNAL_EXCEPTION", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
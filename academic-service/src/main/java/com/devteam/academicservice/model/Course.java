@@ -1,7 +1,6 @@
 package com.devteam.academicservice.model;
 
 import com.devteam.academicservice.security.RandomCodeGenerator;
-import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -9,7 +8,6 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Entity
 @Getter
@@ -18,7 +16,10 @@ import java.util.List;
 @NoArgsConstructor
 @Builder
 @ToString
-@Table(name = "COURSES")
+@Table(
+        name = "COURSES",
+        indexes = @Index(name = "IDX_COURSES_CREATED_DATE_ID", columnList = "CREATED_DATE, ID")
+)
 @EntityListeners(AuditingEntityListener.class)
 public class Course {
 
@@ -56,23 +57,6 @@ public class Course {
     // @Column(name = "SUB_TEACHER_LASTNAME")
     // private String subTeacherLastname;
 
-   @ManyToMany(
-    // fetch = FetchType.EAGER
-           cascade = {
-                   CascadeType.PERSIST,
-                   CascadeType.MERGE
-           }
-    )
-    @JoinTable(
-            name = "COURSES_MEMBERS",
-            joinColumns = {
-                    @JoinColumn(name = "COURSES_ID")
-            },
-            inverseJoinColumns = @JoinColumn(name = "MEMBERS_ID")
-    )
-   @JsonManagedReference
-   private List<Member> members;
-
     @CreatedDate
     @Column(name = "CREATED_DATE", nullable = false, updatable = false)
     private LocalDateTime createdDate;
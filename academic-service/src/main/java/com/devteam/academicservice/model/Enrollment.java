@@ -0,0 +1,59 @@
+package com.devteam.academicservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * One user's membership of one course.
+ *
+ * Keyed by (course, user), so joining or leaving a course is a single-row insert or delete
+ * whatever the size of the course. The member's name is denormalized from the token at join time.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Table(
+        name = "ENROLLMENTS",
+        indexes = @Index(name = "IDX_ENROLLMENTS_USER_ID", columnList = "USER_ID")
+)
+@EntityListeners(AuditingEntityListener.class)
+public class Enrollment {
+
+    @EmbeddedId
+    private EnrollmentId id;
+
+    /**
+     * Only declares the foreign key: COURSE_ID is written through {@link EnrollmentId}, and the
+     * database drops a course's enrollments with it
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "COURSE_ID", insertable = false, updatable = false, foreignKey = @ForeignKey(name = "FK_ENROLLMENTS_COURSE"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    private Course course;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ROLE", nullable = false, length = 16)
+    private Role role;
+
+    @Column(name = "FIRSTNAME")
+    private String firstname;
+
+    @Column(name = "LASTNAME")
+    private String lastname;
+
+    @CreatedDate
+    @Column(name = "JOINED_DATE", nullable = false, updatable = false)
+    private LocalDateTime joinedDate;
+
+}
@@ -0,0 +1,24 @@
+package com.devteam.academicservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class EnrollmentId implements Serializable {
+
+    @Column(name = "COURSE_ID", nullable = false, updatable = false)
+    private String courseId;
+
+    @Column(name = "USER_ID", nullable = false, updatable = false)
+    private String userId;
+
+}
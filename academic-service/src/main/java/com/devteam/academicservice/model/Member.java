@@ -1,36 +0,0 @@
-package com.devteam.academicservice.model;
-
-import com.fasterxml.jackson.annotation.JsonBackReference;
-import jakarta.persistence.*;
-import lombok.*;
-
-import java.util.List;
-
-@Entity
-@Getter
-@Setter
-@AllArgsConstructor
-@NoArgsConstructor
-@Builder
-@ToString
-@Table(name = "MEMBERS")
-public class Member {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
-
-    @Column(name = "MEMBER_ID")
-    private String memberId;
-
-    @Column(name = "FIRSTNAME")
-    private String firstname;
-
-    @Column(name = "LASTNAME")
-    private String lastname;
-
-    @ManyToMany(mappedBy = "members")
-    @JsonBackReference
-    private List<Course> courses;
-
-}
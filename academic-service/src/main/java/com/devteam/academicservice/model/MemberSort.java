@@ -0,0 +1,8 @@
+package com.devteam.academicservice.model;
+
+public enum MemberSort {
+    NAME
+    ,
+    JOINED
+    ;
+}
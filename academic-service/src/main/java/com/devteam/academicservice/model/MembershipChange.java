@@ -0,0 +1,44 @@
+package com.devteam.academicservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of enrollment changes, written in the same transaction as the change itself.
+ *
+ * Every instance polls it to keep its in-memory membership index current with joins and leaves
+ * made elsewhere. The increasing id is the polling cursor; rows are pruned after a retention period.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "MEMBERSHIP_CHANGES", indexes = @Index(name = "IDX_MEMBERSHIP_CHANGES_CHANGED_AT", columnList = "CHANGED_AT"))
+public class MembershipChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "COURSE_ID", nullable = false)
+    private String courseId;
+
+    /**
+     * Null for COURSE_DELETED
+     */
+    @Column(name = "USER_ID")
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TYPE", nullable = false, length = 16)
+    private MembershipChangeType type;
+
+    @Column(name = "CHANGED_AT", nullable = false)
+    private LocalDateTime changedAt;
+
+}
@@ -0,0 +1,19 @@
+package com.devteam.academicservice.model;
+
+public enum MembershipChangeType {
+    /**
+     * A user was enrolled in the course
+     */
+    JOIN
+    ,
+    /**
+     * A user left or was removed from the course
+     */
+    LEAVE
+    ,
+    /**
+     * The course and all its enrollments were deleted; the change has no user
+     */
+    COURSE_DELETED
+    ;
+}
@@ -0,0 +1,20 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CourseRepositoryCustom {
+
+    /**
+     * One page of course summaries ordered by (created date, id) descending, starting strictly after
+     * the given keyset position. Members are never fetched.
+     *
+     * @param memberId    only courses this user is enrolled in, or null for all courses
+     * @param nameFilter  case-insensitive substring of the course name, or null
+     * @param afterDate   created date of the last row of the previous page, or null for the first page
+     * @param afterId     id of the last row of the previous page, or null for the first page
+     */
+    List<CourseResponse> findCoursePage(String memberId, String nameFilter, LocalDateTime afterDate, String afterId, int limit);
+}
@@ -0,0 +1,52 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseResponse> findCoursePage(String memberId, String nameFilter, LocalDateTime afterDate, String afterId, int limit) {
+        final StringBuilder jpql = new StringBuilder("""
+                SELECT new com.devteam.academicservice.dto.response.CourseResponse(
+                    c.id, c.name, c.teacherId, c.teacherFirstname, c.teacherLastname, c.subTeacherId, c.subTeacherName, c.createdDate)
+                FROM Course c WHERE 1 = 1""");
+        if (memberId != null) {
+            jpql.append(" AND c.id IN (SELECT e.id.courseId FROM Enrollment e WHERE e.id.userId = :memberId)");
+        }
+        if (nameFilter != null) {
+            jpql.append(" AND LOWER(c.name) LIKE :namePattern ESCAPE '\\'");
+        }
+        if (afterDate != null) {
+            jpql.append(" AND (c.createdDate < :afterDate OR (c.createdDate = :afterDate AND c.id < :afterId))");
+        }
+        jpql.append(" ORDER BY c.createdDate DESC, c.id DESC");
+
+        final TypedQuery<CourseResponse> query = this.entityManager.createQuery(jpql.toString(), CourseResponse.class)
+                .setMaxResults(limit);
+        if (memberId != null) {
+            query.setParameter("memberId", memberId);
+        }
+        if (nameFilter != null) {
+            query.setParameter("namePattern", "%" + escapeLike(nameFilter.toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (afterDate != null) {
+            query.setParameter("afterDate", afterDate);
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,55 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.EnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId>, EnrollmentRepositoryCustom {
+
+    /**
+     * Answered from the primary key index alone
+     */
+    long countByIdCourseId(String courseId);
+
+    @Query("SELECT e.id.userId FROM Enrollment e WHERE e.id.courseId = :courseId")
+    List<String> findUserIdsByCourseId(@Param("courseId") String courseId);
+
+    /**
+     * Insert-only join: never reads the roster, and a duplicate join is absorbed by the primary key.
+     * Returns 1 when the user was enrolled, 0 when they already were or the course no longer exists.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO ENROLLMENTS (COURSE_ID, USER_ID, ROLE, FIRSTNAME, LASTNAME, JOINED_DATE)
+            SELECT c.ID, :userId, :role, :firstname, :lastname, :joinedDate FROM COURSES c WHERE c.ID = :courseId
+            ON CONFLICT (COURSE_ID, USER_ID) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("courseId") String courseId,
+            @Param("userId") String userId,
+            @Param("role") String role,
+            @Param("firstname") String firstname,
+            @Param("lastname") String lastname,
+            @Param("joinedDate") LocalDateTime joinedDate);
+
+    /**
+     * Single-statement delete; the derived deleteById loads the row first
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.id = :id")
+    int deleteEnrollment(@Param("id") EnrollmentId id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.id.courseId = :courseId")
+    int deleteByCourseId(@Param("courseId") String courseId);
+}
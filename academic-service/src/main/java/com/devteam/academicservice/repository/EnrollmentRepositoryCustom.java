@@ -0,0 +1,24 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.dto.response.MemberResponseDTO;
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.MemberSort;
+
+import java.util.List;
+import java.util.Set;
+
+public interface EnrollmentRepositoryCustom {
+
+    /**
+     * One page of a course roster in keyset order, starting strictly after the given sort-key values:
+     * (lastname, firstname, userId) for NAME and (joinedDate, userId) for JOINED. An empty
+     * after array returns the first page.
+     */
+    List<MemberResponseDTO> findMemberPage(String courseId, String nameFilter, MemberSort sort, String[] after, int limit);
+
+    /**
+     * Insert the enrollments in chunks, skipping those that already exist.
+     * Returns the ids of the users actually enrolled.
+     */
+    Set<String> insertAllIfAbsent(List<Enrollment> enrollments);
+}
@@ -0,0 +1,121 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.common.PageCursor;
+import com.devteam.academicservice.dto.response.MemberResponseDTO;
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.MemberSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+class EnrollmentRepositoryImpl implements EnrollmentRepositoryCustom {
+
+    private static final String LASTNAME = "COALESCE(e.lastname, '')";
+    private static final String FIRSTNAME = "COALESCE(e.firstname, '')";
+
+    /**
+     * One statement per chunk: the rows travel as parallel arrays, and RETURNING tells which ones
+     * were new without reading the roster first. Rows of a course deleted meanwhile are dropped.
+     */
+    private static final String INSERT_ENROLLMENTS = """
+            INSERT INTO ENROLLMENTS (COURSE_ID, USER_ID, ROLE, FIRSTNAME, LASTNAME, JOINED_DATE)
+            SELECT r.COURSE_ID, r.USER_ID, r.ROLE, r.FIRSTNAME, r.LASTNAME, r.JOINED_DATE
+            FROM UNNEST(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::timestamp[])
+                AS r(COURSE_ID, USER_ID, ROLE, FIRSTNAME, LASTNAME, JOINED_DATE)
+            JOIN COURSES c ON c.ID = r.COURSE_ID
+            ON CONFLICT (COURSE_ID, USER_ID) DO NOTHING
+            RETURNING USER_ID
+            """;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EnrollmentRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<MemberResponseDTO> findMemberPage(String courseId, String nameFilter, MemberSort sort, String[] after, int limit) {
+        final StringBuilder jpql = new StringBuilder("""
+                SELECT new com.devteam.academicservice.dto.response.MemberResponseDTO(
+                    e.id.userId, e.firstname, e.lastname, e.role, e.joinedDate)
+                FROM Enrollment e WHERE e.id.courseId = :courseId""");
+        if (nameFilter != null) {
+            jpql.append(" AND LOWER(CONCAT(").append(FIRSTNAME).append(", ' ', ").append(LASTNAME)
+                    .append(")) LIKE :namePattern ESCAPE '\\'");
+        }
+        if (after.length > 0) {
+            jpql.append(sort == MemberSort.NAME
+                    ? " AND (" + LASTNAME + " > :afterLastname OR (" + LASTNAME + " = :afterLastname AND ("
+                            + FIRSTNAME + " > :afterFirstname OR (" + FIRSTNAME + " = :afterFirstname AND e.id.userId > :afterUserId))))"
+                    : " AND (e.joinedDate > :afterJoined OR (e.joinedDate = :afterJoined AND e.id.userId > :afterUserId))");
+        }
+        jpql.append(sort == MemberSort.NAME
+                ? " ORDER BY " + LASTNAME + ", " + FIRSTNAME + ", e.id.userId"
+                : " ORDER BY e.joinedDate, e.id.userId");
+
+        final TypedQuery<MemberResponseDTO> query = this.entityManager.createQuery(jpql.toString(), MemberResponseDTO.class)
+                .setParameter("courseId", courseId)
+                .setMaxResults(limit);
+        if (nameFilter != null) {
+            query.setParameter("namePattern", "%" + escapeLike(nameFilter.toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (after.length > 0 && sort == MemberSort.NAME) {
+            query.setParameter("afterLastname", after[0]);
+            query.setParameter("afterFirstname", after[1]);
+            query.setParameter("afterUserId", after[2]);
+        } else if (after.length > 0) {
+            query.setParameter("afterJoined", PageCursor.parseDate(after[0]));
+            query.setParameter("afterUserId", after[1]);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Set<String> insertAllIfAbsent(List<Enrollment> enrollments) {
+        final Set<String> inserted = new HashSet<>(enrollments.size());
+        for (int from = 0; from < enrollments.size(); from += INSERT_CHUNK_SIZE) {
+            final List<Enrollment> chunk = enrollments.subList(from, Math.min(from + INSERT_CHUNK_SIZE, enrollments.size()));
+            this.jdbcTemplate.query(connection -> {
+                final PreparedStatement statement = connection.prepareStatement(INSERT_ENROLLMENTS);
+                statement.setArray(1, column(connection, chunk, "varchar", e -> e.getId().getCourseId()));
+                statement.setArray(2, column(connection, chunk, "varchar", e -> e.getId().getUserId()));
+                statement.setArray(3, column(connection, chunk, "varchar", e -> e.getRole().name()));
+                statement.setArray(4, column(connection, chunk, "varchar", Enrollment::getFirstname));
+                statement.setArray(5, column(connection, chunk, "varchar", Enrollment::getLastname));
+                statement.setArray(6, column(connection, chunk, "timestamp", e -> Timestamp.valueOf(e.getJoinedDate())));
+                return statement;
+            }, rs -> {
+                inserted.add(rs.getString(1));
+            });
+        }
+        return inserted;
+    }
+
+    private static Array column(Connection connection, List<Enrollment> rows, String type, Function<Enrollment, Object> value) throws SQLException {
+        final Object[] values = new Object[rows.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value.apply(rows.get(i));
+        }
+        return connection.createArrayOf(type, values);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -2,13 +2,12 @@ package com.devteam.academicservice.service;
 
 import com.devteam.academicservice.dto.request.CreateCourseDTO;
 import com.devteam.academicservice.dto.request.UpdateCourseRequestDTO;
+import com.devteam.academicservice.dto.response.CourseResponse;
 import com.devteam.academicservice.model.Course;
-import com.devteam.academicservice.model.Member;
+import com.devteam.academicservice.security.UserPrincipal;
 import org.springframework.stereotype.Service;
 import org.apache.commons.lang.StringUtils;
 
-import java.util.List;
-
 @Service
 public class CourseMapper {
 
@@ -18,16 +17,28 @@ public class CourseMapper {
 
     }
 
-    public Course toCourse(CreateCourseDTO courseDTO, Member teacher) {
+    public CourseResponse toCourseResponse(Course course) {
+        return CourseResponse.builder()
+                .id(course.getId())
+                .name(course.getName())
+                .teacherId(course.getTeacherId())
+                .teacherFirstname(course.getTeacherFirstname())
+                .teacherLastname(course.getTeacherLastname())
+                .subTeacherId(course.getSubTeacherId())
+                .subTeacherName(course.getSubTeacherName())
+                .createdDate(course.getCreatedDate())
+                .build();
+    }
+
+    public Course toCourse(CreateCourseDTO courseDTO, UserPrincipal teacher) {
         return Course.builder()
                 .name(courseDTO.getName())
                 .description(courseDTO.getDescription())
-                .teacherId(teacher.getMemberId())
+                .teacherId(teacher.getUserId())
                 .teacherFirstname(teacher.getFirstname())
                 .teacherLastname(teacher.getLastname())
                 .subTeacherId(courseDTO.getSubTeacherId())
                 .subTeacherName(courseDTO.getSubTeacherName())
-                .members(List.of(teacher))
                 .build();
     }
 
@@ -0,0 +1,48 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Full-text search over course names and descriptions.
+ *
+ * app.course-search.mode selects the backend: "database" (default) ranks matches with a Postgres
+ * tsvector GIN index, "memory" keeps an inverted index for tests and small deployments. Every query
+ * word is matched as a prefix, and results come ordered by descending relevance then id, so pages
+ * continue strictly after the (rank, id) of the previous page's last hit. Writers report course
+ * changes through {@link #index} and {@link #remove}; the database backend ignores them.
+ */
+public interface CourseSearchIndex {
+
+    Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    /**
+     * Up to limit hits ranked after the given position, or from the top when afterId is null
+     */
+    List<Hit> search(List<String> terms, float afterRank, String afterId, int limit);
+
+    default void index(CourseResponse course, String description) {
+    }
+
+    default void remove(String courseId) {
+    }
+
+    /**
+     * Lower-cased words of the query. Everything else, including tsquery operators, is dropped.
+     */
+    static List<String> terms(String text) {
+        final List<String> terms = new ArrayList<>();
+        final Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            terms.add(matcher.group());
+        }
+        return terms;
+    }
+
+    record Hit(CourseResponse course, float rank) {}
+}
@@ -1,73 +1,140 @@
 package com.devteam.academicservice.service;
 
+import com.devteam.academicservice.client.UserDirectory;
+import com.devteam.academicservice.client.UserSummary;
+import com.devteam.academicservice.common.AfterCommit;
+import com.devteam.academicservice.common.PageCursor;
+import com.devteam.academicservice.config.LegacyMembershipMigration;
+import com.devteam.academicservice.dto.request.BulkEnrollmentRequestDTO;
 import com.devteam.academicservice.dto.request.CreateCourseDTO;
 import com.devteam.academicservice.dto.request.UpdateCourseRequestDTO;
+import com.devteam.academicservice.dto.response.BulkEnrollmentResponseDTO;
 import com.devteam.academicservice.dto.response.CourseDetailsResponseDTO;
+import com.devteam.academicservice.dto.response.CoursePageResponseDTO;
 import com.devteam.academicservice.dto.response.CourseResponse;
+import com.devteam.academicservice.dto.response.InviteCodeResponseDTO;
+import com.devteam.academicservice.dto.response.MemberPageResponseDTO;
+import com.devteam.academicservice.dto.response.MemberResponseDTO;
 import com.devteam.academicservice.exception.BusinessException;
 import com.devteam.academicservice.exception.ErrorCode;
 import com.devteam.academicservice.model.Course;
-import com.devteam.academicservice.model.Member;
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.EnrollmentId;
+import com.devteam.academicservice.model.MemberSort;
+import com.devteam.academicservice.model.Role;
 import com.devteam.academicservice.repository.CourseRepository;
+import com.devteam.academicservice.repository.EnrollmentRepository;
+import com.devteam.academicservice.security.RandomCodeGenerator;
 import com.devteam.academicservice.security.UserPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.devteam.academicservice.security.SecurityUtils.getCurrentUser;
 
 @Service
 public class CourseService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CourseMapper courseMapper;
+    private final LegacyMembershipMigration legacyMembershipMigration;
     private final CourseRepository repository;
-
-    public CourseService(CourseRepository repository, CourseMapper courseMapper) {
+    private final EnrollmentRepository enrollmentRepository;
+    private final MembershipIndex membershipIndex;
+    private final UserDirectory userDirectory;
+    private final InviteCodeCache inviteCodeCache;
+    private final MyCoursesCache myCoursesCache;
+    private final CourseSearchIndex courseSearchIndex;
+
+    public CourseService(CourseRepository repository, EnrollmentRepository enrollmentRepository, MembershipIndex membershipIndex, UserDirectory userDirectory, InviteCodeCache inviteCodeCache, MyCoursesCache myCoursesCache, CourseSearchIndex courseSearchIndex, CourseMapper courseMapper, LegacyMembershipMigration legacyMembershipMigration) {
         this.repository = repository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.membershipIndex = membershipIndex;
+        this.userDirectory = userDirectory;
+        this.inviteCodeCache = inviteCodeCache;
+        this.myCoursesCache = myCoursesCache;
+        this.courseSearchIndex = courseSearchIndex;
         this.courseMapper = courseMapper;
+        this.legacyMembershipMigration = legacyMembershipMigration;
     }
 
-    public List<Course> getAllCourses() {
-        return this.repository.findAll();
+    public CoursePageResponseDTO getAllCourses(String cursor, int size, String nameFilter) {
+        return getCoursePage(null, cursor, size, nameFilter);
     }
 
-    public void createCourse(CreateCourseDTO course) {
-        checkCourseName(course.getName());
-
+    /**
+     * The unfiltered first page is cut from the per-user cache, which holds up to MAX_PAGE_SIZE + 1
+     * courses so that any page size can tell whether a next page exists
+     */
+    public CoursePageResponseDTO getAllCoursesById(String cursor, int size, String nameFilter) {
         UserPrincipal currentUser = getCurrentUser();
+        String userId = currentUser.getUserId();
+        CoursePageResponseDTO page = cursor == null && !StringUtils.hasText(nameFilter)
+                ? toCoursePage(this.myCoursesCache.get(userId, id -> this.repository.findCoursePage(id, null, null, null, MAX_PAGE_SIZE + 1)), clampPageSize(size))
+                : getCoursePage(userId, cursor, size, nameFilter);
 
-        Member teacher = Member.builder()
-                .memberId(currentUser.getUserId())
-                .firstname(currentUser.getFirstname())
-                .lastname(currentUser.getLastname())
-                .build();
+        if (page.getCourses().isEmpty() && cursor == null && !StringUtils.hasText(nameFilter)) throw new BusinessException(ErrorCode.COURSE_NOTFOUND, userId);
 
-        Course savedCourse = courseMapper.toCourse(course, teacher);
+        return page;
+    }
 
-        this.repository.save(savedCourse);
+    /**
+     * Catalog search over course names and descriptions, best matches first.
+     * A query without any word matches nothing rather than everything.
+     */
+    public CoursePageResponseDTO searchCourses(String query, String cursor, int size) {
+        int limit = clampPageSize(size);
+        List<String> terms = CourseSearchIndex.terms(query);
+        if (terms.isEmpty()) return CoursePageResponseDTO.builder().courses(List.of()).build();
+
+        float afterRank = 0;
+        String afterId = null;
+        if (cursor != null) {
+            String[] position = PageCursor.decode(cursor, 2);
+            try {
+                afterRank = Float.parseFloat(position[0]);
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            afterId = position[1];
+        }
+
+        List<CourseSearchIndex.Hit> hits = this.courseSearchIndex.search(terms, afterRank, afterId, limit + 1);
+        String nextCursor = null;
+        if (hits.size() > limit) {
+            hits = hits.subList(0, limit);
+            CourseSearchIndex.Hit last = hits.get(limit - 1);
+            nextCursor = PageCursor.encode(last.rank(), last.course().getId());
+        }
+
+        return CoursePageResponseDTO.builder()
+                .courses(hits.stream().map(CourseSearchIndex.Hit::course).toList())
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    public List<CourseResponse> getAllCoursesById() {
+    @Transactional
+    public void createCourse(CreateCourseDTO course) {
+        checkCourseName(course.getName());
+
         UserPrincipal currentUser = getCurrentUser();
-        String userId = currentUser.getUserId();
-        List<CourseResponse> courseResponseList = this.repository.findAllByMemberId(userId)
-                .stream()
-                .map(course -> CourseResponse.builder()
-                    .id(course.getId())
-                    .name(course.getName())
-                    .teacherId(course.getTeacherId())
-                    .teacherFirstname(course.getTeacherFirstname())
-                        .teacherLastname(course.getTeacherLastname())
-                    .subTeacherId(course.getSubTeacherId())
-                    .subTeacherName(course.getSubTeacherName()).build()
-                )
-                .toList();
 
-        if (courseResponseList.isEmpty()) throw new BusinessException(ErrorCode.COURSE_NOTFOUND, userId);
+        // Flushed now: the creator's enrollment is inserted only if the course row exists
+        Course savedCourse = this.repository.saveAndFlush(courseMapper.toCourse(course, currentUser));
+        AfterCommit.run(() -> this.courseSearchIndex.index(this.courseMapper.toCourseResponse(savedCourse), savedCourse.getDescription()));
 
-        return courseResponseList;
+        enroll(savedCourse.getId(), currentUser, Role.CREATOR);
     }
 
+    @Transactional(readOnly = true)
     public CourseDetailsResponseDTO getCourseById(String courseId) {
         Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
         checkIsUserMember(course);
@@ -81,7 +148,7 @@ public class CourseService {
                 .teacherLastname(course.getTeacherLastname())
                 .subTeacherId(course.getSubTeacherId())
                 .subTeacherName(course.getSubTeacherName())
-                .members(course.getMembers())
+                .memberCount(this.enrollmentRepository.countByIdCourseId(courseId))
                 .createdDate(course.getCreatedDate())
                 .lastModifiedDate(course.getLastModifiedDate())
                 .build();
@@ -92,33 +159,145 @@ public class CourseService {
         UserPrincipal currentUser = getCurrentUser();
         String userId = currentUser.getUserId();
 
-        boolean isMember = course.getMembers().stream().anyMatch(member -> member.getMemberId().equals(userId));
+        boolean isMember = this.membershipIndex.isMember(course.getId(), userId);
 
         if (!isMember) throw new BusinessException(ErrorCode.INVALID_MEMBER, course.getName());
 
     }
 
+    /**
+     * One page of the roster, sorted by name or join date and optionally filtered by name.
+     * Names come from identity-service when it answers, falling back to those stored at join time.
+     */
+    public MemberPageResponseDTO getCourseMembers(String courseId, String cursor, int size, MemberSort sort, String nameFilter) {
+        if (!isCourseExists(courseId)) throw new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId);
+        if (!this.membershipIndex.isMember(courseId, getCurrentUser().getUserId())) throw new BusinessException(ErrorCode.INVALID_MEMBER, courseId);
+
+        int limit = clampPageSize(size);
+        String filter = StringUtils.hasText(nameFilter) ? nameFilter.trim() : null;
+        String[] after = cursor == null ? new String[0] : PageCursor.decode(cursor, sort == MemberSort.NAME ? 3 : 2);
+
+        List<MemberResponseDTO> members = this.enrollmentRepository.findMemberPage(courseId, filter, sort, after, limit + 1);
+        String nextCursor = null;
+        if (members.size() > limit) {
+            members = members.subList(0, limit);
+            MemberResponseDTO last = members.get(limit - 1);
+            nextCursor = sort == MemberSort.NAME
+                    ? PageCursor.encode(last.getLastname(), last.getFirstname(), last.getMemberId())
+                    : PageCursor.encode(last.getJoinedDate(), last.getMemberId());
+        }
+
+        return MemberPageResponseDTO.builder()
+                .members(withCurrentNames(members))
+                .total(cursor == null && filter == null ? this.enrollmentRepository.countByIdCourseId(courseId) : null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<MemberResponseDTO> withCurrentNames(List<MemberResponseDTO> members) {
+        Map<String, UserSummary> users = this.userDirectory.getUsers(members.stream().map(MemberResponseDTO::getMemberId).toList());
+        return members.stream()
+                .map(member -> {
+                    UserSummary user = users.get(member.getMemberId());
+                    return user == null ? member : MemberResponseDTO.builder()
+                            .memberId(member.getMemberId())
+                            .firstname(user.firstname())
+                            .lastname(user.lastname())
+                            .role(member.getRole())
+                            .joinedDate(member.getJoinedDate())
+                            .build();
+                })
+                .toList();
+    }
+
+    @Transactional
     public void updateCourseById(String courseId, UpdateCourseRequestDTO requestDTO) {
         Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
         this.courseMapper.mergeCourse(course, requestDTO);
         this.repository.save(course);
+        this.myCoursesCache.evictAll(this.enrollmentRepository.findUserIdsByCourseId(courseId));
+        AfterCommit.run(() -> this.courseSearchIndex.index(this.courseMapper.toCourseResponse(course), course.getDescription()));
     }
 
-    public void addMember(String invitedCode) {
-        Course course = this.repository.findByInvitedCode(invitedCode).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, invitedCode));
+    /**
+     * Enroll a whole cohort at once. Names are resolved in one batch lookup and the enrollments are
+     * written in chunked multi-row inserts, so the cost grows with the number of chunks, not of users.
+     */
+    @Transactional
+    public BulkEnrollmentResponseDTO enrollMembers(String courseId, BulkEnrollmentRequestDTO requestDTO) {
+        Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
+        String currentUserId = getCurrentUser().getUserId();
+        if (!currentUserId.equals(course.getTeacherId()) && !currentUserId.equals(course.getSubTeacherId())) throw new BusinessException(ErrorCode.NOT_COURSE_TEACHER, course.getName());
+
+        Set<String> userIds = new LinkedHashSet<>(requestDTO.getUserIds());
+        Map<String, UserSummary> users = this.userDirectory.getUsers(userIds);
+
+        LocalDateTime joinedDate = LocalDateTime.now();
+        List<Enrollment> enrollments = new ArrayList<>(users.size());
+        List<String> unknownUsers = new ArrayList<>();
+        for (String userId : userIds) {
+            UserSummary user = users.get(userId);
+            if (user == null) {
+                unknownUsers.add(userId);
+                continue;
+            }
+            enrollments.add(Enrollment.builder()
+                    .id(new EnrollmentId(courseId, userId))
+                    .role(Role.MEMBER)
+                    .firstname(user.firstname())
+                    .lastname(user.lastname())
+                    .joinedDate(joinedDate)
+                    .build());
+        }
+
+        Set<String> inserted = this.enrollmentRepository.insertAllIfAbsent(enrollments);
+        this.membershipIndex.onJoin(courseId, inserted);
+        this.myCoursesCache.evictAll(inserted);
+
+        List<String> enrolled = new ArrayList<>(inserted.size());
+        List<String> alreadyMembers = new ArrayList<>();
+        for (Enrollment enrollment : enrollments) {
+            String userId = enrollment.getId().getUserId();
+            (inserted.contains(userId) ? enrolled : alreadyMembers).add(userId);
+        }
+
+        return BulkEnrollmentResponseDTO.builder()
+                .enrolled(enrolled)
+                .alreadyMembers(alreadyMembers)
+                .unknownUsers(unknownUsers)
+                .build();
+    }
 
-        UserPrincipal currentUser = getCurrentUser();
+    /**
+     * Replace the invite code, so the old one stops admitting new members
+     */
+    @Transactional
+    public InviteCodeResponseDTO regenerateInviteCode(String courseId) {
+        Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
+        String currentUserId = getCurrentUser().getUserId();
+        if (!currentUserId.equals(course.getTeacherId()) && !currentUserId.equals(course.getSubTeacherId())) throw new BusinessException(ErrorCode.NOT_COURSE_TEACHER, course.getName());
 
-        System.out.println("Current user: "+currentUser);
+        String oldCode = course.getInvitedCode();
+        course.setInvitedCode(RandomCodeGenerator.generateCode(10));
+        this.repository.save(course);
+        this.inviteCodeCache.evict(oldCode);
 
-        Member student = Member.builder()
-                .memberId(currentUser.getUserId())
-                .firstname(currentUser.getFirstname())
-                .lastname(currentUser.getLastname())
+        return InviteCodeResponseDTO.builder()
+                .invitedCode(course.getInvitedCode())
                 .build();
+    }
 
-        course.getMembers().add(student);
-        this.repository.save(course);
+    /**
+     * Join by invite code. Idempotent: joining a course twice leaves a single enrollment.
+     */
+    public void addMember(String invitedCode) {
+        String courseId = this.inviteCodeCache.findCourseId(invitedCode).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, invitedCode));
+
+        if (!enroll(courseId, getCurrentUser(), Role.MEMBER) && !isCourseExists(courseId)) {
+            // The cached code outlived its course
+            this.inviteCodeCache.evict(invitedCode);
+            throw new BusinessException(ErrorCode.COURSE_NOTFOUND, invitedCode);
+        }
     }
 
     public void leaveCourse(String courseId) {
@@ -126,23 +305,89 @@ public class CourseService {
         removeMember(courseId, currentUser.getUserId());
     }
 
+    @Transactional
     public void removeMember(String courseId, String memberId) {
-        Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
-        course.getMembers().removeIf(member -> member.getMemberId().equals(memberId));
-        this.repository.save(course);
+        if (!isCourseExists(courseId)) throw new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId);
+        this.enrollmentRepository.deleteEnrollment(new EnrollmentId(courseId, memberId));
+        this.membershipIndex.onLeave(courseId, memberId);
+        this.myCoursesCache.evict(memberId);
     }
 
-
-
+    @Transactional
     public void deleteCourseById(String courseId) {
-        if (!isCourseExists(courseId)) throw new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId);
-        this.repository.deleteById(courseId);
+        Course course = this.repository.findById(courseId).orElseThrow(() -> new BusinessException(ErrorCode.COURSE_NOTFOUND, courseId));
+        this.myCoursesCache.evictAll(this.enrollmentRepository.findUserIdsByCourseId(courseId));
+        this.enrollmentRepository.deleteByCourseId(courseId);
+        this.legacyMembershipMigration.deleteLegacyMemberships(courseId);
+        this.repository.delete(course);
+        this.inviteCodeCache.evict(course.getInvitedCode());
+        AfterCommit.run(() -> this.courseSearchIndex.remove(courseId));
+        this.membershipIndex.onCourseDeleted(courseId);
+    }
+
+    /**
+     * @return false when nothing was inserted: the user is already a member or the course is gone
+     */
+    private boolean enroll(String courseId, UserPrincipal user, Role role) {
+        int inserted = this.enrollmentRepository.insertIfAbsent(
+                courseId,
+                user.getUserId(),
+                role.name(),
+                user.getFirstname(),
+                user.getLastname(),
+                LocalDateTime.now());
+        if (inserted == 0) {
+            return false;
+        }
+        this.membershipIndex.onJoin(courseId, user.getUserId());
+        this.myCoursesCache.evict(user.getUserId());
+        return true;
     }
 
     private boolean isCourseExists(String courseId) {
         return this.repository.existsById(courseId);
     }
 
+    /**
+     * Keyset pagination on (created date, id): each page continues strictly after the last row of the
+     * previous one, so deep pages cost the same as the first and concurrent inserts never shift rows.
+     */
+    private CoursePageResponseDTO getCoursePage(String memberId, String cursor, int size, String nameFilter) {
+        int limit = clampPageSize(size);
+        String filter = StringUtils.hasText(nameFilter) ? nameFilter.trim() : null;
+
+        LocalDateTime afterDate = null;
+        String afterId = null;
+        if (cursor != null) {
+            String[] position = PageCursor.decode(cursor, 2);
+            afterDate = PageCursor.parseDate(position[0]);
+            afterId = position[1];
+        }
+
+        return toCoursePage(this.repository.findCoursePage(memberId, filter, afterDate, afterId, limit + 1), limit);
+    }
+
+    /**
+     * Keep the first limit rows; any row beyond them means there is a next page
+     */
+    private CoursePageResponseDTO toCoursePage(List<CourseResponse> courses, int limit) {
+        String nextCursor = null;
+        if (courses.size() > limit) {
+            courses = courses.subList(0, limit);
+            CourseResponse last = courses.get(limit - 1);
+            nextCursor = PageCursor.encode(last.getCreatedDate(), last.getId());
+        }
+
+        return CoursePageResponseDTO.builder()
+                .courses(courses)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
     private void checkCourseName(String name) {
         final boolean exist = this.repository.existsByNameIgnoreCase(name);
         if (exist) throw new BusinessException(ErrorCode.COURSE_ALREADY_EXISTS, name);
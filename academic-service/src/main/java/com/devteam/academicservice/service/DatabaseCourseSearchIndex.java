@@ -0,0 +1,87 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Searches courses in Postgres.
+ *
+ * Names weigh more than descriptions: the document is the name at weight A followed by the
+ * description at weight B, parsed with the "simple" configuration so that course titles in any
+ * language are matched word for word without stemming. The GIN index is created at startup on that
+ * exact expression, because the schema itself is generated by Hibernate.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.course-search.mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseCourseSearchIndex implements CourseSearchIndex {
+
+    private static final String DOCUMENT =
+            "(setweight(to_tsvector('simple', COALESCE(NAME, '')), 'A') || setweight(to_tsvector('simple', COALESCE(DESCRIPTION, '')), 'B'))";
+
+    private static final String RANKED = """
+            SELECT * FROM (
+                SELECT c.ID, c.NAME, c.TEACHER_ID, c.TEACHER_FISTNAME, c.TEACHER_LASTNAME, c.SUB_TEACHER_ID,
+                       c.SUB_TEACHER_NAME, c.CREATED_DATE, ts_rank(%1$s, q.QUERY) AS RANK
+                FROM COURSES c, to_tsquery('simple', ?) AS q(QUERY)
+                WHERE %1$s @@ q.QUERY
+            ) r
+            """.formatted(DOCUMENT);
+
+    private static final String FIRST_PAGE = RANKED + " ORDER BY r.RANK DESC, r.ID LIMIT ?";
+
+    private static final String NEXT_PAGE = RANKED
+            + " WHERE r.RANK < ?::real OR (r.RANK = ?::real AND r.ID > ?) ORDER BY r.RANK DESC, r.ID LIMIT ?";
+
+    private static final RowMapper<Hit> ROW_MAPPER = (rs, rowNum) -> {
+        final Timestamp createdDate = rs.getTimestamp("CREATED_DATE");
+        return new Hit(
+                new CourseResponse(
+                        rs.getString("ID"),
+                        rs.getString("NAME"),
+                        rs.getString("TEACHER_ID"),
+                        rs.getString("TEACHER_FISTNAME"),
+                        rs.getString("TEACHER_LASTNAME"),
+                        rs.getString("SUB_TEACHER_ID"),
+                        rs.getString("SUB_TEACHER_NAME"),
+                        createdDate != null ? createdDate.toLocalDateTime() : null),
+                rs.getFloat("RANK"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatabaseCourseSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        try {
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_COURSES_SEARCH ON COURSES USING GIN (" + DOCUMENT + ")");
+        } catch (DataAccessException e) {
+            log.warn("Could not create the course search index, search falls back to sequential scans: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<Hit> search(List<String> terms, float afterRank, String afterId, int limit) {
+        // Terms only hold letters and digits, so the tsquery cannot be malformed
+        final String query = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+
+        if (afterId == null) {
+            return this.jdbcTemplate.query(FIRST_PAGE, ROW_MAPPER, query, limit);
+        }
+        return this.jdbcTemplate.query(NEXT_PAGE, ROW_MAPPER, query, afterRank, afterRank, afterId, limit);
+    }
+}
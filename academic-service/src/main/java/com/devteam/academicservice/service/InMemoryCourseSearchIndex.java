@@ -0,0 +1,147 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+import com.devteam.academicservice.model.Course;
+import com.devteam.academicservice.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from words to courses, for tests and deployments without Postgres full-text search.
+ *
+ * Words are kept sorted, so a query word is matched as a prefix by scanning one sub-map. A course
+ * matches when every query word prefixes one of its words; it scores 1 per word found in the name
+ * and 0.4 per word found only in the description, mirroring the A/B weights of the database index.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.course-search.mode", havingValue = "memory")
+public class InMemoryCourseSearchIndex implements CourseSearchIndex {
+
+    private static final float NAME_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparing(Hit::rank).reversed()
+            .thenComparing(hit -> hit.course().getId());
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Set<String>> nameWords = new TreeMap<>();
+    private final NavigableMap<String, Set<String>> descriptionWords = new TreeMap<>();
+    private final Map<String, Entry> courses = new HashMap<>();
+
+    public InMemoryCourseSearchIndex(CourseRepository courseRepository, CourseMapper courseMapper) {
+        this.courseRepository = courseRepository;
+        this.courseMapper = courseMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<Course> all = this.courseRepository.findAll();
+        all.forEach(course -> index(this.courseMapper.toCourseResponse(course), course.getDescription()));
+        log.info("Loaded {} course(s) into the in-memory search index", all.size());
+    }
+
+    @Override
+    public List<Hit> search(List<String> terms, float afterRank, String afterId, int limit) {
+        final List<Hit> hits = new ArrayList<>();
+
+        this.lock.readLock().lock();
+        try {
+            Map<String, Float> scores = null;
+            for (String term : terms) {
+                final Map<String, Float> termScores = new HashMap<>();
+                collect(this.descriptionWords, term, DESCRIPTION_WEIGHT, termScores);
+                collect(this.nameWords, term, NAME_WEIGHT, termScores);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    final Map<String, Float> matched = scores;
+                    matched.keySet().retainAll(termScores.keySet());
+                    termScores.forEach((courseId, score) -> matched.computeIfPresent(courseId, (k, total) -> total + score));
+                }
+            }
+            if (scores != null) {
+                scores.forEach((courseId, score) -> hits.add(new Hit(this.courses.get(courseId).course(), score)));
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return hits.stream()
+                .filter(hit -> afterId == null || hit.rank() < afterRank || (hit.rank() == afterRank && hit.course().getId().compareTo(afterId) > 0))
+                .sorted(RANKING)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void index(CourseResponse course, String description) {
+        final Entry entry = new Entry(course,
+                new HashSet<>(CourseSearchIndex.terms(course.getName() != null ? course.getName() : "")),
+                new HashSet<>(CourseSearchIndex.terms(description != null ? description : "")));
+
+        this.lock.writeLock().lock();
+        try {
+            removeEntry(course.getId());
+            this.courses.put(course.getId(), entry);
+            entry.nameWords().forEach(word -> this.nameWords.computeIfAbsent(word, k -> new HashSet<>()).add(course.getId()));
+            entry.descriptionWords().forEach(word -> this.descriptionWords.computeIfAbsent(word, k -> new HashSet<>()).add(course.getId()));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String courseId) {
+        this.lock.writeLock().lock();
+        try {
+            removeEntry(courseId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best weight of any word starting with the term, per course
+     */
+    private static void collect(NavigableMap<String, Set<String>> words, String term, float weight, Map<String, Float> scores) {
+        for (Set<String> courseIds : words.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            courseIds.forEach(courseId -> scores.put(courseId, weight));
+        }
+    }
+
+    private void removeEntry(String courseId) {
+        final Entry entry = this.courses.remove(courseId);
+        if (entry == null) {
+            return;
+        }
+        entry.nameWords().forEach(word -> removeWord(this.nameWords, word, courseId));
+        entry.descriptionWords().forEach(word -> removeWord(this.descriptionWords, word, courseId));
+    }
+
+    private static void removeWord(Map<String, Set<String>> words, String word, String courseId) {
+        words.computeIfPresent(word, (k, courseIds) -> {
+            courseIds.remove(courseId);
+            return courseIds.isEmpty() ? null : courseIds;
+        });
+    }
+
+    private record Entry(CourseResponse course, Set<String> nameWords, Set<String> descriptionWords) {}
+}
@@ -0,0 +1,72 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.common.AfterCommit;
+import com.devteam.academicservice.repository.CourseRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * In-memory invite code → course id map in front of CourseRepository.
+ *
+ * Misses are cached too, in a separate smaller cache with a short TTL, so codes mistyped or guessed
+ * by bots are answered without touching the database after the first attempt. Codes of deleted
+ * courses and replaced codes are evicted locally once the change commits; other instances pick it up
+ * when their entry expires. Known codes therefore live only a few seconds: enough to absorb a class
+ * joining at once, while a regenerated code stops admitting members everywhere almost immediately.
+ */
+@Component
+public class InviteCodeCache {
+
+    private final CourseRepository courseRepository;
+    private final Cache<String, String> courseIds;
+    private final Cache<String, Boolean> unknownCodes;
+
+    public InviteCodeCache(
+            CourseRepository courseRepository,
+            @Value("${app.invite-code-cache.max-size:10000}") long maxSize,
+            @Value("${app.invite-code-cache.ttl-seconds:5}") long ttlSeconds,
+            @Value("${app.invite-code-cache.negative-max-size:100000}") long negativeMaxSize,
+            @Value("${app.invite-code-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.courseRepository = courseRepository;
+        this.courseIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.unknownCodes = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .build();
+    }
+
+    public Optional<String> findCourseId(String invitedCode) {
+        final String courseId = this.courseIds.getIfPresent(invitedCode);
+        if (courseId != null) {
+            return Optional.of(courseId);
+        }
+        if (this.unknownCodes.getIfPresent(invitedCode) != null) {
+            return Optional.empty();
+        }
+
+        final Optional<String> loaded = this.courseRepository.findIdByInvitedCode(invitedCode);
+        loaded.ifPresentOrElse(
+                id -> this.courseIds.put(invitedCode, id),
+                () -> this.unknownCodes.put(invitedCode, Boolean.TRUE));
+        return loaded;
+    }
+
+    /**
+     * Forget the code once the surrounding transaction commits, so a concurrent lookup cannot
+     * cache the old mapping again from uncommitted state
+     */
+    public void evict(String invitedCode) {
+        AfterCommit.run(() -> {
+            this.courseIds.invalidate(invitedCode);
+            this.unknownCodes.invalidate(invitedCode);
+        });
+    }
+}
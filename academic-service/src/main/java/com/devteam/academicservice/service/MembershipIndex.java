@@ -0,0 +1,398 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.common.AfterCommit;
+import com.devteam.academicservice.model.MembershipChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-memory course membership index answering "is user X in course Y" without a query.
+ *
+ * Users and courses get dense int ordinals, and each course keeps a Roaring bitmap of its member
+ * ordinals (and each user one of their course ordinals). Bitmaps are copy-on-write, so reads
+ * never lock. Every join and leave is written to MEMBERSHIP_CHANGES in the transaction that makes
+ * it, applied locally on commit, and picked up by every other instance from that feed within
+ * app.membership-index.feed-interval-millis. A periodic rebuild from ENROLLMENTS corrects any drift.
+ * A negative answer is confirmed against the database before it is returned, so a join is never
+ * denied, but the database answer is not added to the index: only the feed adds members, so a
+ * leave can never be overtaken by a stale read.
+ */
+@Slf4j
+@Component
+public class MembershipIndex {
+
+    private static final String LOAD_ENROLLMENTS = "SELECT COURSE_ID, USER_ID FROM ENROLLMENTS";
+    private static final String EXISTS_ENROLLMENT = "SELECT EXISTS (SELECT 1 FROM ENROLLMENTS WHERE COURSE_ID = ? AND USER_ID = ?)";
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO MEMBERSHIP_CHANGES (COURSE_ID, USER_ID, TYPE, CHANGED_AT)
+            VALUES (?, ?, ?, clock_timestamp()::timestamp)
+            """;
+    private static final String INSERT_JOINS = """
+            INSERT INTO MEMBERSHIP_CHANGES (COURSE_ID, USER_ID, TYPE, CHANGED_AT)
+            SELECT ?, u.USER_ID, 'JOIN', clock_timestamp()::timestamp FROM UNNEST(?::varchar[]) AS u(USER_ID)
+            """;
+    private static final String LAST_CHANGE_ID = "SELECT COALESCE(MAX(ID), 0) FROM MEMBERSHIP_CHANGES";
+
+    /**
+     * Ids are assigned at insert, not at commit, so changes at or below the cursor that are recent
+     * enough to have committed late are read again. Applying a change twice has no further effect.
+     */
+    private static final String LOAD_RECENT_CHANGES = """
+            SELECT ID, COURSE_ID, USER_ID, TYPE FROM MEMBERSHIP_CHANGES
+            WHERE ID <= ? AND CHANGED_AT > clock_timestamp()::timestamp - ? * INTERVAL '1 second'
+            ORDER BY ID
+            """;
+    private static final String LOAD_NEW_CHANGES = "SELECT ID, COURSE_ID, USER_ID, TYPE FROM MEMBERSHIP_CHANGES WHERE ID > ? ORDER BY ID LIMIT ?";
+    private static final String PRUNE_CHANGES = "DELETE FROM MEMBERSHIP_CHANGES WHERE CHANGED_AT < clock_timestamp()::timestamp - ? * INTERVAL '1 hour'";
+    private static final int CHANGE_PAGE_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long rebuildIntervalSeconds;
+    private final long feedIntervalMillis;
+    private final long feedLookbackSeconds;
+    private final long changeRetentionHours;
+
+    /**
+     * Rebuilds and feed polls share this thread, so they never overlap
+     */
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "membership-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile State state;
+
+    /**
+     * Id of the last change read from the feed, or -1 before the first rebuild. Scheduler thread only.
+     */
+    private long changeCursor = -1;
+
+    private final Object removalLock = new Object();
+
+    /**
+     * Removals applied since the running rebuild started, or null when no rebuild is running
+     */
+    private List<Consumer<State>> removalsDuringRebuild;
+
+    public MembershipIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.membership-index.rebuild-interval-seconds:300}") long rebuildIntervalSeconds,
+            @Value("${app.membership-index.feed-interval-millis:1000}") long feedIntervalMillis,
+            @Value("${app.membership-index.feed-lookback-seconds:10}") long feedLookbackSeconds,
+            @Value("${app.membership-index.change-retention-hours:24}") long changeRetentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildIntervalSeconds = rebuildIntervalSeconds;
+        this.feedIntervalMillis = feedIntervalMillis;
+        this.feedLookbackSeconds = feedLookbackSeconds;
+        this.changeRetentionHours = changeRetentionHours;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(this::rebuild, 0, this.rebuildIntervalSeconds, TimeUnit.SECONDS);
+        this.scheduler.scheduleWithFixedDelay(this::pollChanges, this.feedIntervalMillis, this.feedIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.scheduler.shutdownNow();
+    }
+
+    public boolean isMember(String courseId, String userId) {
+        final State current = this.state;
+        if (current != null && current.contains(courseId, userId)) {
+            return true;
+        }
+        return Boolean.TRUE.equals(this.jdbcTemplate.queryForObject(EXISTS_ENROLLMENT, Boolean.class, courseId, userId));
+    }
+
+    /**
+     * Ids of the courses both users are enrolled in
+     */
+    public List<String> getSharedCourses(String userId, String otherUserId) {
+        final State current = this.state;
+        if (current == null) {
+            return this.jdbcTemplate.queryForList(
+                    "SELECT a.COURSE_ID FROM ENROLLMENTS a JOIN ENROLLMENTS b ON b.COURSE_ID = a.COURSE_ID AND b.USER_ID = ? WHERE a.USER_ID = ?",
+                    String.class, otherUserId, userId);
+        }
+        return current.sharedCourses(userId, otherUserId);
+    }
+
+    /**
+     * Record a join; must run in the transaction that enrolls the user
+     */
+    public void onJoin(String courseId, String userId) {
+        this.jdbcTemplate.update(INSERT_CHANGE, courseId, userId, MembershipChangeType.JOIN.name());
+        afterCommit(state -> state.add(courseId, userId));
+    }
+
+    public void onJoin(String courseId, Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        this.jdbcTemplate.update(connection -> {
+            final PreparedStatement statement = connection.prepareStatement(INSERT_JOINS);
+            statement.setString(1, courseId);
+            statement.setArray(2, connection.createArrayOf("varchar", userIds.toArray()));
+            return statement;
+        });
+        afterCommit(state -> state.addAll(courseId, userIds));
+    }
+
+    public void onLeave(String courseId, String userId) {
+        this.jdbcTemplate.update(INSERT_CHANGE, courseId, userId, MembershipChangeType.LEAVE.name());
+        afterCommitRemoval(state -> state.remove(courseId, userId));
+    }
+
+    public void onCourseDeleted(String courseId) {
+        this.jdbcTemplate.update(INSERT_CHANGE, courseId, null, MembershipChangeType.COURSE_DELETED.name());
+        afterCommitRemoval(state -> state.removeCourse(courseId));
+    }
+
+    /**
+     * Apply the change once the surrounding transaction commits, so a rollback never reaches the index
+     */
+    private void afterCommit(Consumer<State> change) {
+        AfterCommit.run(() -> applyChange(change));
+    }
+
+    /**
+     * Like {@link #afterCommit}, but also remembered for a running rebuild, whose scan may predate it
+     */
+    private void afterCommitRemoval(Consumer<State> removal) {
+        AfterCommit.run(() -> {
+            synchronized (this.removalLock) {
+                applyChange(removal);
+                if (this.removalsDuringRebuild != null) {
+                    this.removalsDuringRebuild.add(removal);
+                }
+            }
+        });
+    }
+
+    private void applyChange(Consumer<State> change) {
+        final State current = this.state;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+
+    private void pollChanges() {
+        final State current = this.state;
+        if (current == null || this.changeCursor < 0) {
+            return;
+        }
+        try {
+            final List<Change> changes = new ArrayList<>(this.jdbcTemplate.query(
+                    LOAD_RECENT_CHANGES, Change.MAPPER, this.changeCursor, this.feedLookbackSeconds));
+            List<Change> page;
+            do {
+                page = this.jdbcTemplate.query(LOAD_NEW_CHANGES, Change.MAPPER, this.changeCursor, CHANGE_PAGE_SIZE);
+                changes.addAll(page);
+                if (!page.isEmpty()) {
+                    this.changeCursor = page.get(page.size() - 1).id();
+                }
+            } while (page.size() == CHANGE_PAGE_SIZE);
+
+            // In id order, so the last change of each membership is the one that sticks
+            for (Change change : changes) {
+                switch (change.type()) {
+                    case JOIN -> current.add(change.courseId(), change.userId());
+                    case LEAVE -> current.remove(change.courseId(), change.userId());
+                    case COURSE_DELETED -> current.removeCourse(change.courseId());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Membership change feed poll failed, retrying: {}", e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        synchronized (this.removalLock) {
+            this.removalsDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // Read before the scan, so no change committed after the scan's snapshot is skipped by the feed
+            if (this.changeCursor < 0) {
+                this.changeCursor = this.jdbcTemplate.queryForObject(LAST_CHANGE_ID, Long.class);
+            }
+
+            final State rebuilt = new State();
+            this.jdbcTemplate.query(LOAD_ENROLLMENTS, rs -> {
+                rebuilt.load(rs.getString(1), rs.getString(2));
+            });
+            rebuilt.optimize();
+            synchronized (this.removalLock) {
+                this.removalsDuringRebuild.forEach(removal -> removal.accept(rebuilt));
+                this.state = rebuilt;
+            }
+            log.debug("Membership index rebuilt with {} course(s) and {} user(s)", rebuilt.courseIds.size(), rebuilt.userOrdinals.size());
+
+            final int pruned = this.jdbcTemplate.update(PRUNE_CHANGES, this.changeRetentionHours);
+            log.debug("Pruned {} membership change(s)", pruned);
+        } catch (RuntimeException e) {
+            log.warn("Membership index rebuild failed, keeping the previous index: {}", e.getMessage());
+        } finally {
+            synchronized (this.removalLock) {
+                this.removalsDuringRebuild = null;
+            }
+        }
+    }
+
+    private record Change(long id, String courseId, String userId, MembershipChangeType type) {
+
+        private static final RowMapper<Change> MAPPER = (rs, rowNum) -> new Change(
+                rs.getLong(1), rs.getString(2), rs.getString(3), MembershipChangeType.valueOf(rs.getString(4)));
+    }
+
+    private static final class State {
+
+        private final Map<String, Integer> userOrdinals = new ConcurrentHashMap<>();
+        private final Map<String, Integer> courseOrdinals = new ConcurrentHashMap<>();
+        private final Map<Integer, String> courseIds = new ConcurrentHashMap<>();
+        private final AtomicInteger nextUserOrdinal = new AtomicInteger();
+        private final AtomicInteger nextCourseOrdinal = new AtomicInteger();
+
+        private final Map<Integer, RoaringBitmap> courseMembers = new ConcurrentHashMap<>();
+        private final Map<Integer, RoaringBitmap> userCourses = new ConcurrentHashMap<>();
+
+        private boolean contains(String courseId, String userId) {
+            final Integer course = this.courseOrdinals.get(courseId);
+            final Integer user = this.userOrdinals.get(userId);
+            if (course == null || user == null) {
+                return false;
+            }
+            final RoaringBitmap members = this.courseMembers.get(course);
+            return members != null && members.contains(user);
+        }
+
+        private List<String> sharedCourses(String userId, String otherUserId) {
+            final Integer user = this.userOrdinals.get(userId);
+            final Integer other = this.userOrdinals.get(otherUserId);
+            if (user == null || other == null) {
+                return List.of();
+            }
+            final RoaringBitmap userBitmap = this.userCourses.get(user);
+            final RoaringBitmap otherBitmap = this.userCourses.get(other);
+            if (userBitmap == null || otherBitmap == null) {
+                return List.of();
+            }
+
+            final List<String> shared = new ArrayList<>();
+            RoaringBitmap.and(userBitmap, otherBitmap).forEach((int course) -> shared.add(this.courseIds.get(course)));
+            return shared;
+        }
+
+        /**
+         * Add while the state is still private to the rebuild, mutating the bitmaps in place
+         */
+        private void load(String courseId, String userId) {
+            final int course = courseOrdinal(courseId);
+            final int user = userOrdinal(userId);
+            this.courseMembers.computeIfAbsent(course, k -> new RoaringBitmap()).add(user);
+            this.userCourses.computeIfAbsent(user, k -> new RoaringBitmap()).add(course);
+        }
+
+        private void optimize() {
+            this.courseMembers.values().forEach(RoaringBitmap::runOptimize);
+            this.userCourses.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private void add(String courseId, String userId) {
+            final int course = courseOrdinal(courseId);
+            final int user = userOrdinal(userId);
+            this.courseMembers.compute(course, (k, members) -> withAdded(members, user));
+            this.userCourses.compute(user, (k, courses) -> withAdded(courses, course));
+        }
+
+        /**
+         * Copy the course's member bitmap once for the whole batch rather than once per user
+         */
+        private void addAll(String courseId, Collection<String> userIds) {
+            final int course = courseOrdinal(courseId);
+            final RoaringBitmap added = new RoaringBitmap();
+            for (String userId : userIds) {
+                final int user = userOrdinal(userId);
+                added.add(user);
+                this.userCourses.compute(user, (k, courses) -> withAdded(courses, course));
+            }
+            this.courseMembers.compute(course, (k, members) -> members != null ? RoaringBitmap.or(members, added) : added);
+        }
+
+        private int courseOrdinal(String courseId) {
+            return this.courseOrdinals.computeIfAbsent(courseId, id -> {
+                final int ordinal = this.nextCourseOrdinal.getAndIncrement();
+                this.courseIds.put(ordinal, id);
+                return ordinal;
+            });
+        }
+
+        private int userOrdinal(String userId) {
+            return this.userOrdinals.computeIfAbsent(userId, id -> this.nextUserOrdinal.getAndIncrement());
+        }
+
+        private void remove(String courseId, String userId) {
+            final Integer course = this.courseOrdinals.get(courseId);
+            final Integer user = this.userOrdinals.get(userId);
+            if (course == null || user == null) {
+                return;
+            }
+            this.courseMembers.computeIfPresent(course, (k, members) -> withRemoved(members, user));
+            this.userCourses.computeIfPresent(user, (k, courses) -> withRemoved(courses, course));
+        }
+
+        private void removeCourse(String courseId) {
+            final Integer course = this.courseOrdinals.get(courseId);
+            if (course == null) {
+                return;
+            }
+            final RoaringBitmap members = this.courseMembers.remove(course);
+            if (members != null) {
+                members.forEach((int user) -> this.userCourses.computeIfPresent(user, (k, courses) -> withRemoved(courses, course)));
+            }
+        }
+
+        /**
+         * Bitmaps are never mutated once published, so readers can use them without locking
+         */
+        private static RoaringBitmap withAdded(RoaringBitmap bitmap, int value) {
+            if (bitmap != null && bitmap.contains(value)) {
+                return bitmap;
+            }
+            final RoaringBitmap copy = bitmap != null ? bitmap.clone() : new RoaringBitmap();
+            copy.add(value);
+            return copy;
+        }
+
+        private static RoaringBitmap withRemoved(RoaringBitmap bitmap, int value) {
+            if (!bitmap.contains(value)) {
+                return bitmap;
+            }
+            final RoaringBitmap copy = bitmap.clone();
+            copy.remove(value);
+            return copy.isEmpty() ? null : copy;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.common.AfterCommit;
+import com.devteam.academicservice.dto.response.CourseResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Per-user cache of the first courses of the "my courses" listing, the dashboard's landing query.
+ *
+ * Memory is bounded by the total number of cached course summaries rather than by users, since one
+ * teacher may hold far more courses than a student. Every membership or course change evicts exactly
+ * the users it affects once it commits; the TTL only bounds staleness from changes made on other
+ * instances. A load that overlaps an eviction may have read the data from before the change, so
+ * each eviction also bumps a generation, and a load keeps its result only if the generation it
+ * started with is unchanged once the result is stored. Hit and miss counts are published as the
+ * academic.my-courses cache metrics.
+ */
+@Component
+public class MyCoursesCache {
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<String, List<CourseResponse>> cache;
+
+    /**
+     * Eviction count per stripe of user ids, so an eviction only disturbs loads of users in its stripe
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public MyCoursesCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.my-courses-cache.max-courses:200000}") long maxCourses,
+            @Value("${app.my-courses-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCourses)
+                .weigher((String userId, List<CourseResponse> courses) -> courses.size() + 1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "academic.my-courses");
+    }
+
+    public List<CourseResponse> get(String userId, Function<String, List<CourseResponse>> loader) {
+        final List<CourseResponse> cached = this.cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        final int stripe = stripe(userId);
+        final long generation = this.generations.get(stripe);
+        final List<CourseResponse> loaded = List.copyOf(loader.apply(userId));
+        this.cache.put(userId, loaded);
+        // Checked after storing: an eviction either bumped the generation first or invalidates afterwards
+        if (this.generations.get(stripe) != generation) {
+            this.cache.asMap().remove(userId, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String userId) {
+        AfterCommit.run(() -> {
+            this.generations.incrementAndGet(stripe(userId));
+            this.cache.invalidate(userId);
+        });
+    }
+
+    public void evictAll(Collection<String> userIds) {
+        AfterCommit.run(() -> {
+            userIds.forEach(userId -> this.generations.incrementAndGet(stripe(userId)));
+            this.cache.invalidateAll(userIds);
+        });
+    }
+
+    private static int stripe(String userId) {
+        return Math.floorMod(userId.hashCode(), GENERATION_STRIPES);
+    }
+}
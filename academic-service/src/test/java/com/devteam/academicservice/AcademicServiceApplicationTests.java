@@ -3,7 +3,7 @@ package com.devteam.academicservice;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.course-search.mode=memory")
 class AcademicServiceApplicationTests {
 
 	@Test
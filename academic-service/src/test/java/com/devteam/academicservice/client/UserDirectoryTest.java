@@ -0,0 +1,47 @@
+package com.devteam.academicservice.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserDirectoryTest {
+
+    private final IdentityClient identityClient = mock(IdentityClient.class);
+    private final UserDirectory userDirectory = new UserDirectory(this.identityClient, 100, 300);
+
+    @Test
+    void resolvesUsersFromIdentityService() {
+        when(this.identityClient.getUsers(any())).thenReturn(List.of(user("user-1")));
+
+        assertThat(this.userDirectory.getUsers(List.of("user-1", "user-2"))).containsOnlyKeys("user-1");
+    }
+
+    @Test
+    void leavesMissingIdsOutWhenIdentityServiceFails() {
+        when(this.identityClient.getUsers(any())).thenThrow(new IllegalStateException("identity-service is down"));
+
+        assertThat(this.userDirectory.getUsers(List.of("user-1", "user-2"))).isEmpty();
+    }
+
+    @Test
+    void keepsCachedUsersWhenIdentityServiceFails() {
+        when(this.identityClient.getUsers(any()))
+                .thenReturn(List.of(user("user-1")))
+                .thenThrow(new IllegalStateException("identity-service is down"));
+        this.userDirectory.getUsers(List.of("user-1"));
+
+        final Map<String, UserSummary> users = this.userDirectory.getUsers(List.of("user-1", "user-2"));
+
+        assertThat(users).containsOnlyKeys("user-1");
+    }
+
+    private static UserSummary user(String id) {
+        return new UserSummary(id, "Ada", "Lovelace", id + "@example.com", "STUDENT");
+    }
+}
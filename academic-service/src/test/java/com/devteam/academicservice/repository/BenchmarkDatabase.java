@@ -0,0 +1,107 @@
+package com.devteam.academicservice.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Scratch schema for the repository benchmarks, on the local database of application.properties
+ * unless -Dbenchmark.jdbc.url, -Dbenchmark.jdbc.username and -Dbenchmark.jdbc.password say otherwise.
+ * The tables mirror the entities' columns, keys and indexes, and the schema is dropped on close.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final String SCHEMA = "academic_benchmark";
+
+    private static final String[] DDL = {
+            "CREATE SCHEMA " + SCHEMA,
+            """
+            CREATE TABLE COURSES (
+                ID varchar(255) PRIMARY KEY,
+                NAME varchar(255) NOT NULL,
+                INVITED_CODE varchar(10) NOT NULL UNIQUE,
+                TEACHER_ID varchar(255) NOT NULL,
+                TEACHER_FISTNAME varchar(255) NOT NULL,
+                TEACHER_LASTNAME varchar(255) NOT NULL,
+                CREATED_DATE timestamp(6) NOT NULL)
+            """,
+            "CREATE INDEX IDX_COURSES_CREATED_DATE_ID ON COURSES (CREATED_DATE, ID)",
+            """
+            CREATE TABLE ENROLLMENTS (
+                COURSE_ID varchar(255) NOT NULL REFERENCES COURSES (ID) ON DELETE CASCADE,
+                USER_ID varchar(255) NOT NULL,
+                ROLE varchar(16) NOT NULL,
+                FIRSTNAME varchar(255),
+                LASTNAME varchar(255),
+                JOINED_DATE timestamp(6) NOT NULL,
+                PRIMARY KEY (COURSE_ID, USER_ID))
+            """,
+            "CREATE INDEX IDX_ENROLLMENTS_USER_ID ON ENROLLMENTS (USER_ID)",
+            """
+            CREATE TABLE MEMBERSHIP_CHANGES (
+                ID bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                COURSE_ID varchar(255) NOT NULL,
+                USER_ID varchar(255),
+                TYPE varchar(16) NOT NULL,
+                CHANGED_AT timestamp(6) NOT NULL)
+            """,
+            "CREATE INDEX IDX_MEMBERSHIP_CHANGES_CHANGED_AT ON MEMBERSHIP_CHANGES (CHANGED_AT)"
+    };
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    private BenchmarkDatabase(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    static BenchmarkDatabase create() throws SQLException {
+        final String url = System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5433/school_identity_db");
+        final String username = System.getProperty("benchmark.jdbc.username", "postgres");
+        final String password = System.getProperty("benchmark.jdbc.password", "password");
+
+        try (Connection connection = DriverManager.getConnection(url, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute(DDL[0]);
+            statement.execute("SET search_path TO " + SCHEMA);
+            for (int i = 1; i < DDL.length; i++) {
+                statement.execute(DDL[i]);
+            }
+        }
+
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setSchema(SCHEMA);
+        dataSource.setMaximumPoolSize(4);
+        return new BenchmarkDatabase(dataSource);
+    }
+
+    HikariDataSource dataSource() {
+        return this.dataSource;
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return this.jdbcTemplate;
+    }
+
+    void insertCourse(String courseId) {
+        this.jdbcTemplate.update("""
+                INSERT INTO COURSES (ID, NAME, INVITED_CODE, TEACHER_ID, TEACHER_FISTNAME, TEACHER_LASTNAME, CREATED_DATE)
+                VALUES (?, ?, ?, 'teacher-1', 'Ada', 'Lovelace', now())
+                """, courseId, "Course " + courseId, Integer.toHexString(courseId.hashCode()));
+    }
+
+    @Override
+    public void close() {
+        this.jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        this.dataSource.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.EnrollmentId;
+import com.devteam.academicservice.model.Role;
+import com.devteam.academicservice.service.MembershipIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write path of a bulk enrollment into a new course, as run by CourseService#enrollMembers once
+ * names are resolved: the chunked insert and the membership change rows in one transaction, then
+ * the in-memory index update on commit. The identity-service name lookup is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkEnrollmentBenchmark {
+
+    @Param({"1000", "5000", "10000"})
+    public int students;
+
+    private BenchmarkDatabase database;
+    private EnrollmentRepositoryImpl enrollmentRepository;
+    private MembershipIndex membershipIndex;
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong courses = new AtomicLong();
+
+    private String courseId;
+    private List<Enrollment> enrollments;
+
+    @Setup(Level.Trial)
+    public void createDatabase() throws Exception {
+        this.database = BenchmarkDatabase.create();
+        this.enrollmentRepository = new EnrollmentRepositoryImpl(this.database.jdbcTemplate());
+        this.membershipIndex = new MembershipIndex(this.database.jdbcTemplate(), 300, 1000, 10, 24);
+        ReflectionTestUtils.invokeMethod(this.membershipIndex, "rebuild");
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(this.database.dataSource()));
+    }
+
+    @Setup(Level.Invocation)
+    public void createCourse() {
+        this.courseId = "bulk-course-" + this.courses.incrementAndGet();
+        this.database.insertCourse(this.courseId);
+
+        final LocalDateTime now = LocalDateTime.now();
+        this.enrollments = new ArrayList<>(this.students);
+        for (int i = 0; i < this.students; i++) {
+            this.enrollments.add(Enrollment.builder()
+                    .id(new EnrollmentId(this.courseId, "student-" + i))
+                    .role(Role.MEMBER)
+                    .firstname("First" + i)
+                    .lastname("Last" + i)
+                    .joinedDate(now)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearCourses() {
+        this.database.jdbcTemplate().execute("TRUNCATE MEMBERSHIP_CHANGES, ENROLLMENTS, COURSES");
+    }
+
+    @TearDown(Level.Trial)
+    public void dropDatabase() {
+        this.database.close();
+    }
+
+    @Benchmark
+    public Set<String> enroll() {
+        return this.transactionTemplate.execute(status -> {
+            final Set<String> inserted = this.enrollmentRepository.insertAllIfAbsent(this.enrollments);
+            this.membershipIndex.onJoin(this.courseId, inserted);
+            return inserted;
+        });
+    }
+}
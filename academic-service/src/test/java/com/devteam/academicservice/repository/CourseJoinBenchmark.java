@@ -0,0 +1,106 @@
+package com.devteam.academicservice.repository;
+
+import com.devteam.academicservice.model.Enrollment;
+import com.devteam.academicservice.model.EnrollmentId;
+import com.devteam.academicservice.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of a single course join as the course grows, to check the insert-only join stays flat.
+ * Runs the exact statement of {@link EnrollmentRepository#insertIfAbsent} against a seeded course;
+ * {@code rejoin} measures a member joining again, which has to resolve to a conflict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseJoinBenchmark {
+
+    private static final String COURSE_ID = "course-join-benchmark";
+
+    @Param({"10", "1000", "10000", "50000"})
+    public int courseSize;
+
+    private BenchmarkDatabase database;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private String joinSql;
+    private final AtomicLong joiners = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void seedCourse() throws Exception {
+        this.database = BenchmarkDatabase.create();
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(this.database.jdbcTemplate());
+        this.joinSql = EnrollmentRepository.class
+                .getMethod("insertIfAbsent", String.class, String.class, String.class, String.class, String.class, LocalDateTime.class)
+                .getAnnotation(Query.class)
+                .value();
+
+        this.database.insertCourse(COURSE_ID);
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Enrollment> members = new ArrayList<>(this.courseSize);
+        for (int i = 0; i < this.courseSize; i++) {
+            members.add(Enrollment.builder()
+                    .id(new EnrollmentId(COURSE_ID, "member-" + i))
+                    .role(Role.MEMBER)
+                    .firstname("First" + i)
+                    .lastname("Last" + i)
+                    .joinedDate(now)
+                    .build());
+        }
+        new EnrollmentRepositoryImpl(this.database.jdbcTemplate()).insertAllIfAbsent(members);
+        this.database.jdbcTemplate().execute("ANALYZE ENROLLMENTS");
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeJoiners() {
+        this.database.jdbcTemplate().update("DELETE FROM ENROLLMENTS WHERE USER_ID LIKE 'joiner-%'");
+    }
+
+    @TearDown(Level.Trial)
+    public void dropDatabase() {
+        this.database.close();
+    }
+
+    @Benchmark
+    public int join() {
+        return this.namedJdbcTemplate.update(this.joinSql, params("joiner-" + this.joiners.incrementAndGet()));
+    }
+
+    @Benchmark
+    public int rejoin() {
+        return this.namedJdbcTemplate.update(this.joinSql, params("member-0"));
+    }
+
+    private static MapSqlParameterSource params(String userId) {
+        return new MapSqlParameterSource()
+                .addValue("courseId", COURSE_ID)
+                .addValue("userId", userId)
+                .addValue("role", Role.MEMBER.name())
+                .addValue("firstname", "Grace")
+                .addValue("lastname", "Hopper")
+                .addValue("joinedDate", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,61 @@
+package com.devteam.academicservice.service;
+
+import com.devteam.academicservice.dto.response.CourseResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MyCoursesCacheTest {
+
+    private final MyCoursesCache cache = new MyCoursesCache(new SimpleMeterRegistry(), 1000, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesRepeatedReadsFromCache() {
+        cache.get("user-1", this::load);
+        cache.get("user-1", this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsAfterEviction() {
+        cache.get("user-1", this::load);
+        cache.evict("user-1");
+        cache.get("user-1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void dropsLoadThatOverlappedAnEviction() {
+        // The loader read the data before the change whose eviction lands while it is running
+        cache.get("user-1", userId -> {
+            cache.evict(userId);
+            return load(userId);
+        });
+        cache.get("user-1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void keepsLoadWhenAnotherUserIsEvicted() {
+        cache.get("user-1", userId -> {
+            cache.evictAll(List.of("user-2"));
+            return load(userId);
+        });
+        cache.get("user-1", this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private List<CourseResponse> load(String userId) {
+        loads.incrementAndGet();
+        return List.of();
+    }
+}
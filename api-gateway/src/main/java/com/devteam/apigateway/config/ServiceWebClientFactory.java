@@ -0,0 +1,40 @@
+package com.devteam.apigateway.config;
+
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Creates WebClients for calls from the gateway to other services.
+ * lb://service-id URIs resolve through Eureka, like the gateway routes do.
+ */
+@Component
+public class ServiceWebClientFactory {
+
+    private static final String LOAD_BALANCED_SCHEME = "lb://";
+
+    private final WebClient.Builder webClientBuilder;
+    private final ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction;
+
+    public ServiceWebClientFactory(
+            WebClient.Builder webClientBuilder,
+            ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction) {
+        this.webClientBuilder = webClientBuilder;
+        this.loadBalancerFunction = loadBalancerFunction;
+    }
+
+    /**
+     * @param baseUri http(s):// or lb:// URI that requests are resolved against
+     */
+    public WebClient create(String baseUri) {
+        if (baseUri.startsWith(LOAD_BALANCED_SCHEME)) {
+            return this.webClientBuilder.clone()
+                    .baseUrl("http://" + baseUri.substring(LOAD_BALANCED_SCHEME.length()))
+                    .filter(this.loadBalancerFunction)
+                    .build();
+        }
+        return this.webClientBuilder.clone()
+                .baseUrl(baseUri)
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.devteam.apigateway.jwt;
+
+import com.devteam.apigateway.config.ServiceWebClientFactory;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps {@link JwtKeyRing} in sync with identity-service's JWKS endpoint.
+ *
+ * The key set is fetched once at startup and refreshed in the background, so verification never
+ * makes a remote call. A token with an unknown kid triggers an early refetch, at most once per
+ * jwt.jwks.min-refetch-interval-seconds so forged kids cannot flood identity-service.
+ */
+@Component
+public class JwksClient {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksClient.class);
+
+    private final JwtKeyRing keyRing;
+    private final WebClient webClient;
+    private final String jwksUri;
+    private final Duration refreshInterval;
+    private final long minRefetchIntervalNanos;
+
+    private final AtomicReference<Mono<Void>> inFlightFetch = new AtomicReference<>();
+    private volatile long lastFetchNanos = System.nanoTime();
+
+    public JwksClient(
+            JwtKeyRing keyRing,
+            ServiceWebClientFactory webClientFactory,
+            @Value("${jwt.jwks.uri:}") String jwksUri,
+            @Value("${jwt.jwks.refresh-interval-seconds:300}") long refreshIntervalSeconds,
+            @Value("${jwt.jwks.min-refetch-interval-seconds:30}") long minRefetchIntervalSeconds) {
+        this.keyRing = keyRing;
+        this.refreshInterval = Duration.ofSeconds(refreshIntervalSeconds);
+        this.minRefetchIntervalNanos = Duration.ofSeconds(minRefetchIntervalSeconds).toNanos();
+        this.jwksUri = jwksUri;
+        this.webClient = webClientFactory.create(jwksUri);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackgroundRefresh() {
+        if (this.jwksUri.isBlank()) {
+            log.info("jwt.jwks.uri is not set, verifying JWTs with configured keys only");
+            return;
+        }
+
+        Flux.interval(Duration.ZERO, this.refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> fetch())
+                .subscribe();
+    }
+
+    /**
+     * Completes immediately when the key is known, otherwise after an early refetch of the key set.
+     */
+    public Mono<Void> awaitKey(String kid) {
+        if (this.keyRing.hasKey(kid) || this.jwksUri.isBlank()) {
+            return Mono.empty();
+        }
+        if (System.nanoTime() - this.lastFetchNanos < this.minRefetchIntervalNanos) {
+            return Mono.empty();
+        }
+        return fetch();
+    }
+
+    private Mono<Void> fetch() {
+        final Mono<Void> current = this.inFlightFetch.get();
+        if (current != null) {
+            return current;
+        }
+
+        final Mono<Void> fetch = this.webClient.get()
+                .retrieve()
+                .bodyToMono(String.class)
+                .doOnNext(this::applyKeySet)
+                .doOnError(e -> log.warn("Failed to fetch JWKS from {}: {}", this.jwksUri, e.getMessage()))
+                .onErrorComplete()
+                .doFinally(signal -> {
+                    this.lastFetchNanos = System.nanoTime();
+                    this.inFlightFetch.set(null);
+                })
+                .then()
+                .cache();
+
+        return this.inFlightFetch.compareAndSet(null, fetch) ? fetch : fetch();
+    }
+
+    private void applyKeySet(String json) {
+        final JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        final Map<String, JwtKeyRing.VerificationKey> remoteKeys = new HashMap<>();
+
+        for (Jwk<?> jwk : jwkSet) {
+            if (jwk.getId() != null && jwk.getAlgorithm() != null && jwk.toKey() instanceof PublicKey publicKey) {
+                remoteKeys.put(jwk.getId(), new JwtKeyRing.VerificationKey(publicKey, jwk.getAlgorithm()));
+            }
+        }
+
+        this.keyRing.replaceRemoteKeys(remoteKeys);
+        log.debug("Loaded {} JWT verification key(s) from JWKS", remoteKeys.size());
+    }
+}
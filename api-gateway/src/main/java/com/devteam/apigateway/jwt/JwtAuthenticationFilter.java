@@ -1,6 +1,8 @@
 package com.devteam.apigateway.jwt;
 
+import com.devteam.apigateway.revocation.RevocationList;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
@@ -15,11 +17,13 @@ import reactor.core.publisher.Mono;
 public class JwtAuthenticationFilter
         extends AbstractGatewayFilterFactory<JwtAuthenticationFilter.Config> {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+    private final RevocationList revocationList;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(VerifiedClaimsCache verifiedClaimsCache, RevocationList revocationList) {
         super(Config.class);
-        this.jwtUtil = jwtUtil;
+        this.verifiedClaimsCache = verifiedClaimsCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -35,27 +39,29 @@ public class JwtAuthenticationFilter
             }
 
             String token = authHeader.substring(7);
-            Claims claims = jwtUtil.extractClaims(token);
 
-            String userId = claims.get("userId").toString();
-            String email = claims.get("email", String.class);
-            String role = claims.get("role", String.class);
-            String firstname = claims.get("firstname", String.class);
-            String lastname = claims.get("lastname", String.class);
+            return verifiedClaimsCache.getVerifiedClaims(token)
+                    .flatMap(claims -> revocationList.isRevoked(claims) ? unauthorized(exchange) : chain.filter(exchange.mutate()
+                            .request(withUserHeaders(exchange, claims))
+                            .build()))
+                    .onErrorResume(JwtException.class, e -> unauthorized(exchange));
+        };
+    }
 
-            ServerHttpRequest mutatedRequest =
-                    exchange.getRequest().mutate()
-                            .header("X-User-Id", userId)
-                            .header("X-User-Email", email)
-                            .header("X-Role", role)
-                            .header("X-Firstname", firstname)
-                            .header("X-Lastname", lastname)
-                            .build();
+    private ServerHttpRequest withUserHeaders(ServerWebExchange exchange, Claims claims) {
+        String userId = claims.get("userId").toString();
+        String email = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
+        String firstname = claims.get("firstname", String.class);
+        String lastname = claims.get("lastname", String.class);
 
-            return chain.filter(exchange.mutate()
-                    .request(mutatedRequest)
-                    .build());
-        };
+        return exchange.getRequest().mutate()
+                .header("X-User-Id", userId)
+                .header("X-User-Email", email)
+                .header("X-Role", role)
+                .header("X-Firstname", firstname)
+                .header("X-Lastname", lastname)
+                .build();
     }
 
     private Mono<Void> unauthorized(ServerWebExchange exchange) {
@@ -0,0 +1,70 @@
+package com.devteam.apigateway.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Public keys used to verify JWTs, bound from jwt.*
+ *
+ * Tokens select their key with the "kid" header. Tokens without a kid use default-kid.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt")
+public class JwtKeyProperties {
+
+    private String defaultKid;
+
+    private List<Key> keys = new ArrayList<>();
+
+    public String getDefaultKid() {
+        return defaultKid;
+    }
+
+    public void setDefaultKid(String defaultKid) {
+        this.defaultKid = defaultKid;
+    }
+
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(List<Key> keys) {
+        this.keys = keys;
+    }
+
+    public static class Key {
+
+        private String kid;
+
+        private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+
+        private String publicKey;
+
+        public String getKid() {
+            return kid;
+        }
+
+        public void setKid(String kid) {
+            this.kid = kid;
+        }
+
+        public SigningAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(SigningAlgorithm algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        public String getPublicKey() {
+            return publicKey;
+        }
+
+        public void setPublicKey(String publicKey) {
+            this.publicKey = publicKey;
+        }
+    }
+}
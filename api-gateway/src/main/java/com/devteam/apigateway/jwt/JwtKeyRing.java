@@ -0,0 +1,64 @@
+package com.devteam.apigateway.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Verification keys selected by the JWT "kid" header.
+ *
+ * Keys configured under jwt.keys[*] are loaded from PEM files at startup and always kept.
+ * Keys published by identity-service's JWKS endpoint are swapped in as a whole by {@link JwksClient},
+ * so lookups on the request path only read an immutable map.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final String defaultKid;
+    private final Map<String, VerificationKey> configuredKeys = new HashMap<>();
+    private volatile Map<String, VerificationKey> keys;
+
+    public JwtKeyRing(JwtKeyProperties properties) throws Exception {
+        for (JwtKeyProperties.Key key : properties.getKeys()) {
+            final PublicKey publicKey = KeyUtils.loadPublicKey(key.getPublicKey(), key.getAlgorithm().getKeyFactoryAlgorithm());
+            this.configuredKeys.put(key.getKid(), new VerificationKey(publicKey, key.getAlgorithm().getJwsName()));
+        }
+        this.keys = Map.copyOf(this.configuredKeys);
+        this.defaultKid = properties.getDefaultKid();
+    }
+
+    public boolean hasKey(String kid) {
+        return this.keys.containsKey(kid != null ? kid : this.defaultKid);
+    }
+
+    /**
+     * Replace the keys fetched from the JWKS endpoint. Configured keys always stay available.
+     */
+    public void replaceRemoteKeys(Map<String, VerificationKey> remoteKeys) {
+        final Map<String, VerificationKey> merged = new HashMap<>(remoteKeys);
+        merged.putAll(this.configuredKeys);
+        this.keys = Map.copyOf(merged);
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        final String kid = header.getKeyId() != null ? header.getKeyId() : this.defaultKid;
+        final VerificationKey key = this.keys.get(kid);
+
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + kid);
+        }
+        if (!key.jwsAlgorithm().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unexpected JWT algorithm " + header.getAlgorithm() + " for key id: " + kid);
+        }
+        return key.publicKey();
+    }
+
+    public record VerificationKey(PublicKey publicKey, String jwsAlgorithm) {}
+}
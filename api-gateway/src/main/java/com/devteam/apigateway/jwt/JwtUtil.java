@@ -1,26 +1,73 @@
 package com.devteam.apigateway.jwt;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import org.springframework.stereotype.Component;
 
-import java.security.PublicKey;
+import java.io.IOException;
+import java.util.Base64;
 
 @Component
 public class JwtUtil {
 
-    private final PublicKey publicKey;
-    
-    public JwtUtil() throws Exception {
-        this.publicKey = KeyUtils.loadPublicKey("key/public-secret.pem");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * JwtParser is immutable and thread-safe, so it is built once and shared
+     */
+    private final JwtParser jwtParser;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                    .setSigningKey(this.publicKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+        return this.jwtParser
+                    .parseSignedClaims(token)
+                    .getPayload();
+    }
+
+    /**
+     * Read the "exp" claim (epoch seconds) without verifying the signature.
+     * Only used to reject expired tokens before any crypto runs, never to trust the token.
+     * Returns -1 when the token carries no expiration.
+     */
+    public long peekExpiration(String token) {
+        final JsonNode exp = readUnverifiedPart(token, 1).get("exp");
+        return exp != null && exp.canConvertToLong() ? exp.asLong() : -1;
+    }
+
+    /**
+     * Read the "kid" header without verifying the signature, or null when the token has none.
+     */
+    public String peekKeyId(String token) {
+        final JsonNode kid = readUnverifiedPart(token, 0).get("kid");
+        return kid != null && kid.isTextual() ? kid.asText() : null;
+    }
+
+    private JsonNode readUnverifiedPart(String token, int index) {
+        final int firstDot = token.indexOf('.');
+        final int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || token.indexOf('.', secondDot + 1) != -1) {
+            throw new MalformedJwtException("JWT must consist of three parts");
+        }
+
+        final String part = index == 0 ? token.substring(0, firstDot) : token.substring(firstDot + 1, secondDot);
+        try {
+            final JsonNode node = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(part));
+            if (node == null || !node.isObject()) {
+                throw new MalformedJwtException("JWT part is not a JSON object");
+            }
+            return node;
+        } catch (IllegalArgumentException | IOException e) {
+            throw new MalformedJwtException("Unable to read JWT part", e);
+        }
     }
 
 }
@@ -15,15 +15,16 @@ public class KeyUtils {
 
     /**
      * Load public key from file system (for Render Secret Files) or classpath resource
+     * @param keyAlgorithm KeyFactory algorithm of the key, e.g. RSA, EC or Ed25519
      */
-    public static PublicKey loadPublicKey(final String pemPath) throws Exception {
+    public static PublicKey loadPublicKey(final String pemPath, final String keyAlgorithm) throws Exception {
         final String key = readKey(pemPath)
                 .replace("-----BEGIN PUBLIC KEY-----", "")
                 .replace("-----END PUBLIC KEY-----", "")
                 .replaceAll("\\s", "");
         final byte[] decoded = Base64.getDecoder().decode(key);
         final X509EncodedKeySpec spec = new X509EncodedKeySpec(decoded);
-        return KeyFactory.getInstance("RSA").generatePublic(spec);
+        return KeyFactory.getInstance(keyAlgorithm).generatePublic(spec);
     }
 
     /**
@@ -0,0 +1,27 @@
+package com.devteam.apigateway.jwt;
+
+/**
+ * JWS algorithms the gateway accepts, mirroring the identity-service signing configuration.
+ */
+public enum SigningAlgorithm {
+
+    RS256("RSA", "RS256"),
+    ES256("EC", "ES256"),
+    ED25519("Ed25519", "EdDSA");
+
+    private final String keyFactoryAlgorithm;
+    private final String jwsName;
+
+    SigningAlgorithm(final String keyFactoryAlgorithm, final String jwsName) {
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+        this.jwsName = jwsName;
+    }
+
+    public String getKeyFactoryAlgorithm() {
+        return keyFactoryAlgorithm;
+    }
+
+    public String getJwsName() {
+        return jwsName;
+    }
+}
@@ -0,0 +1,103 @@
+package com.devteam.apigateway.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified JWT claims, keyed by the SHA-256 digest of the raw token.
+ *
+ * The frontend sends the same access token many times a minute, so only the first request
+ * pays for the RSA signature check. Each entry expires at the token's own "exp" claim
+ * (capped by jwt.claims-cache.max-ttl-seconds), so a cached token can never outlive its validity.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final JwksClient jwksClient;
+    private final Cache<ByteBuffer, Claims> cache;
+
+    public VerifiedClaimsCache(
+            JwtUtil jwtUtil,
+            JwksClient jwksClient,
+            @Value("${jwt.claims-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.claims-cache.max-ttl-seconds:600}") long maxTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.jwksClient = jwksClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(maxTtlSeconds)))
+                .build();
+    }
+
+    /**
+     * Return the verified claims of the token, verifying the signature only on a cache miss.
+     * Malformed and expired tokens are rejected before any signature check runs, and a token
+     * signed with a key not seen yet waits for the JWKS to be refetched.
+     *
+     * Errors with {@link io.jsonwebtoken.JwtException} if the token is malformed, expired or has an invalid signature
+     */
+    public Mono<Claims> getVerifiedClaims(String token) {
+        return Mono.defer(() -> {
+            final long expiration = this.jwtUtil.peekExpiration(token);
+            if (expiration != -1 && expiration * 1000 <= System.currentTimeMillis()) {
+                return Mono.error(new ExpiredJwtException(null, null, "JWT expired"));
+            }
+
+            final ByteBuffer key = digest(token);
+            final Claims cached = this.cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return this.jwksClient.awaitKey(this.jwtUtil.peekKeyId(token))
+                    .then(Mono.fromCallable(() -> this.cache.get(key, k -> this.jwtUtil.extractClaims(token))));
+        });
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            final Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return this.maxTtlNanos;
+            }
+            final long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remainingNanos, this.maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.devteam.apigateway.revocation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over strings.
+ *
+ * A negative answer is definite, a positive one only means "maybe" and must be confirmed
+ * against an exact set. Entries cannot be removed; build a new filter instead.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        final long n = Math.max(1, expectedInsertions);
+        final long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((this.bitCount + 63) / 64));
+    }
+
+    public void put(String value) {
+        final long hash = hash64(value);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            final long index = Integer.toUnsignedLong(h1 + i * h2) % this.bitCount;
+            final int word = (int) (index >>> 6);
+            final long mask = 1L << index;
+            long current;
+            do {
+                current = this.bits.get(word);
+            } while ((current & mask) == 0 && !this.bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        final long hash = hash64(value);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= this.hashCount; i++) {
+            final long index = Integer.toUnsignedLong(h1 + i * h2) % this.bitCount;
+            if ((this.bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by a murmur3 finalizer to spread the bits
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
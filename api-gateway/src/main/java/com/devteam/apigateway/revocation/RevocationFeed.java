@@ -0,0 +1,21 @@
+package com.devteam.apigateway.revocation;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Page of identity-service's revocation feed. Recent revocations may be repeated across pages.
+ */
+public record RevocationFeed(
+        List<Revocation> revocations,
+        long cursor,
+        @JsonProperty("has_more") boolean hasMore) {
+
+    public enum Type {
+        USER,
+        TOKEN
+    }
+
+    public record Revocation(Type type, String subject, long revokedAt, long expiresAt) {}
+}
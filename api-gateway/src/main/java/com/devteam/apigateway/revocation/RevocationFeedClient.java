@@ -0,0 +1,87 @@
+package com.devteam.apigateway.revocation;
+
+import com.devteam.apigateway.config.ServiceWebClientFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Polls identity-service for revocations newer than the last seen cursor and applies them to
+ * {@link RevocationList}. Only new entries and a short lookback window are transferred, never the
+ * whole list; {@link RevocationList#apply} is idempotent, so entries seen twice are de-duplicated.
+ */
+@Component
+public class RevocationFeedClient {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationFeedClient.class);
+    private static final int PAGE_SIZE = 1000;
+    private static final String INTERNAL_API_KEY_HEADER = "X-Internal-Api-Key";
+
+    private final RevocationList revocationList;
+    private final WebClient webClient;
+    private final String feedUri;
+    private final Duration pollInterval;
+    private final String internalApiKey;
+
+    private volatile long cursor = 0;
+
+    public RevocationFeedClient(
+            RevocationList revocationList,
+            ServiceWebClientFactory webClientFactory,
+            @Value("${jwt.revocation.feed-uri:}") String feedUri,
+            @Value("${jwt.revocation.poll-interval-seconds:10}") long pollIntervalSeconds,
+            @Value("${jwt.revocation.internal-api-key:}") String internalApiKey) {
+        this.revocationList = revocationList;
+        this.feedUri = feedUri;
+        this.webClient = webClientFactory.create(feedUri);
+        this.pollInterval = Duration.ofSeconds(pollIntervalSeconds);
+        this.internalApiKey = internalApiKey;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        if (this.feedUri.isBlank()) {
+            log.info("jwt.revocation.feed-uri is not set, token revocation is disabled");
+            return;
+        }
+
+        Flux.interval(Duration.ZERO, this.pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> poll())
+                .subscribe();
+    }
+
+    private Mono<Void> poll() {
+        return fetchPage()
+                // Keep reading while pages are full, so a backlog is drained in one poll
+                .expand(feed -> feed.hasMore() ? fetchPage() : Mono.empty())
+                .doOnError(e -> log.warn("Failed to poll revocations from {}: {}", this.feedUri, e.getMessage()))
+                .onErrorComplete()
+                .doFinally(signal -> this.revocationList.purgeExpired())
+                .then();
+    }
+
+    private Mono<RevocationFeed> fetchPage() {
+        return this.webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("since", this.cursor)
+                        .queryParam("limit", PAGE_SIZE)
+                        .build())
+                // identity-service answers /internal/** only with the shared key
+                .header(INTERNAL_API_KEY_HEADER, this.internalApiKey)
+                .retrieve()
+                .bodyToMono(RevocationFeed.class)
+                .doOnNext(feed -> {
+                    this.revocationList.apply(feed.revocations());
+                    this.cursor = feed.cursor();
+                });
+    }
+}
@@ -0,0 +1,98 @@
+package com.devteam.apigateway.revocation;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory denylist of revoked users and tokens, fed incrementally by {@link RevocationFeedClient}.
+ *
+ * Every request is first checked against a Bloom filter, which answers "not revoked" for almost all
+ * tokens without touching the exact maps. Only possible matches are confirmed against the maps.
+ */
+@Component
+public class RevocationList {
+
+    private static final String USER_PREFIX = "u:";
+    private static final String TOKEN_PREFIX = "t:";
+
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    /**
+     * userId -> revocation time (epoch seconds), tokens issued at or before it are revoked
+     */
+    private final Map<String, Entry> revokedUsers = new ConcurrentHashMap<>();
+
+    /**
+     * jti -> entry
+     */
+    private final Map<String, Entry> revokedTokens = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    public RevocationList(
+            @Value("${jwt.revocation.expected-entries:100000}") long expectedEntries,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        final BloomFilter currentFilter = this.filter;
+
+        final String tokenId = claims.getId();
+        if (tokenId != null && currentFilter.mightContain(TOKEN_PREFIX + tokenId) && this.revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+
+        final Object userId = claims.get("userId");
+        if (userId != null && currentFilter.mightContain(USER_PREFIX + userId)) {
+            final Entry entry = this.revokedUsers.get(userId.toString());
+            final Date issuedAt = claims.getIssuedAt();
+            return entry != null && (issuedAt == null || issuedAt.getTime() / 1000 <= entry.revokedAt());
+        }
+        return false;
+    }
+
+    /**
+     * Idempotent: the feed re-sends recent revocations, which must leave the list unchanged
+     */
+    public void apply(List<RevocationFeed.Revocation> revocations) {
+        for (RevocationFeed.Revocation revocation : revocations) {
+            final Entry entry = new Entry(revocation.revokedAt(), revocation.expiresAt());
+            if (revocation.type() == RevocationFeed.Type.USER) {
+                this.revokedUsers.merge(revocation.subject(), entry, (a, b) -> a.revokedAt() >= b.revokedAt() ? a : b);
+                this.filter.put(USER_PREFIX + revocation.subject());
+            } else {
+                this.revokedTokens.put(revocation.subject(), entry);
+                this.filter.put(TOKEN_PREFIX + revocation.subject());
+            }
+        }
+    }
+
+    /**
+     * Drop entries whose tokens have all expired, and rebuild the Bloom filter locally if anything was dropped
+     */
+    public void purgeExpired() {
+        final long now = System.currentTimeMillis() / 1000;
+        final boolean usersRemoved = this.revokedUsers.values().removeIf(entry -> entry.expiresAt() <= now);
+        final boolean tokensRemoved = this.revokedTokens.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (!usersRemoved && !tokensRemoved) {
+            return;
+        }
+
+        final BloomFilter rebuilt = new BloomFilter(this.expectedEntries, this.falsePositiveRate);
+        this.revokedUsers.keySet().forEach(userId -> rebuilt.put(USER_PREFIX + userId));
+        this.revokedTokens.keySet().forEach(tokenId -> rebuilt.put(TOKEN_PREFIX + tokenId));
+        this.filter = rebuilt;
+    }
+
+    private record Entry(long revokedAt, long expiresAt) {}
+}
@@ -7,11 +7,16 @@ import com.devteam.gradingservice.dto.response.GetAssignmentDTO;
 import com.devteam.gradingservice.dto.response.SubmissionResponse;
 import com.devteam.gradingservice.security.SecurityUtils;
 import com.devteam.gradingservice.service.AssignmentService;
+import com.devteam.gradingservice.service.FileDownloadService;
+import com.devteam.gradingservice.service.SubmissionArchive;
+import com.devteam.gradingservice.service.SubmissionArchiveService;
 import com.devteam.gradingservice.service.SubmissionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,7 +24,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -30,6 +38,8 @@ public class AssignmentController {
 
     private final AssignmentService assignmentService;
     private final SubmissionService submissionService;
+    private final FileDownloadService fileDownloadService;
+    private final SubmissionArchiveService submissionArchiveService;
 
     /**
      * Create new assignment (TEACHER only)
@@ -110,20 +120,30 @@ public class AssignmentController {
      * Download submission file
      */
     @GetMapping("/submissions/{submissionId}/download")
-    public ResponseEntity<Resource> downloadSubmission(@PathVariable String submissionId) {
+    public void downloadSubmission(
+            @PathVariable String submissionId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         log.info("Downloading submission: {}", submissionId);
-        
-        SubmissionResponse submission = submissionService.getSubmissionById(submissionId);
-        Resource resource = submissionService.downloadSubmission(submissionId);
-        
-        String contentType = submission.getContentType() != null ? 
-                submission.getContentType() : "application/octet-stream";
-        
+        fileDownloadService.serve(submissionService.downloadSubmission(submissionId), request, response);
+    }
+
+    /**
+     * Download every submission of an assignment as one ZIP, one folder per student (TEACHER only)
+     */
+    @GetMapping("/{assignmentId}/submissions/archive")
+    @PreAuthorize("hasRole('TEACHER')")
+    public ResponseEntity<StreamingResponseBody> downloadSubmissionArchive(@PathVariable String assignmentId) {
+        log.info("Exporting submissions of assignment: {}", assignmentId);
+        SubmissionArchive archive = submissionArchiveService.prepareArchive(assignmentId);
+
         return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, 
-                        "attachment; filename=\"" + submission.getFileName() + "\"")
-                .body(resource);
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(archive.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(out -> submissionArchiveService.writeArchive(archive, out));
     }
 
     /**
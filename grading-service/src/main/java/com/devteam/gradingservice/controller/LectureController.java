@@ -2,14 +2,14 @@ package com.devteam.gradingservice.controller;
 
 import com.devteam.gradingservice.dto.request.CreateLectureDTO;
 import com.devteam.gradingservice.dto.request.UpdateLectureDTO;
-import com.devteam.gradingservice.dto.response.LectureFileResponse;
 import com.devteam.gradingservice.dto.response.LectureResponse;
 import com.devteam.gradingservice.dto.response.LectureSummaryResponse;
+import com.devteam.gradingservice.service.FileDownloadService;
 import com.devteam.gradingservice.service.LectureService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -26,6 +27,7 @@ import java.util.List;
 public class LectureController {
 
     private final LectureService lectureService;
+    private final FileDownloadService fileDownloadService;
 
     /**
      * Create lecture with multiple files (TEACHER only)
@@ -75,20 +77,12 @@ public class LectureController {
      * Download a specific file from lecture
      */
     @GetMapping("/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadLectureFile(@PathVariable String fileId) {
+    public void downloadLectureFile(
+            @PathVariable String fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         log.info("Downloading lecture file: {}", fileId);
-        
-        LectureFileResponse fileInfo = lectureService.getLectureFileById(fileId);
-        Resource resource = lectureService.downloadLectureFile(fileId);
-        
-        String contentType = fileInfo.getContentType() != null ? 
-                fileInfo.getContentType() : "application/octet-stream";
-        
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION, 
-                        "attachment; filename=\"" + fileInfo.getFileName() + "\"")
-                .body(resource);
+        fileDownloadService.serve(lectureService.downloadLectureFile(fileId), request, response);
     }
 
     /**
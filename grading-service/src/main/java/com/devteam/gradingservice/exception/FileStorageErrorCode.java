@@ -10,7 +10,8 @@ public enum FileStorageErrorCode {
     FILE_NOT_FOUND("FILE_NOT_FOUND", "File not found: %s", HttpStatus.NOT_FOUND),
     INVALID_FILE_PATH("INVALID_FILE_PATH", "Invalid file path: %s", HttpStatus.BAD_REQUEST),
     FILE_TOO_LARGE("FILE_TOO_LARGE", "File size exceeds maximum limit of %s MB", HttpStatus.BAD_REQUEST),
-    INVALID_FILE_TYPE("INVALID_FILE_TYPE", "File type not allowed: %s", HttpStatus.BAD_REQUEST);
+    INVALID_FILE_TYPE("INVALID_FILE_TYPE", "File type not allowed: %s", HttpStatus.BAD_REQUEST),
+    FILE_CONTENT_MISMATCH("FILE_CONTENT_MISMATCH", "File content is not a valid %s file", HttpStatus.BAD_REQUEST);
 
     private final String code;
     private final String defaultMessage;
@@ -0,0 +1,39 @@
+package com.devteam.gradingservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored file content, shared by every lecture file and submission with the same SHA-256 digest.
+ *
+ * REF_COUNT counts the rows pointing at it. A blob whose count drops to zero is kept for a grace
+ * period, so a re-upload of the same content can revive it, and is then collected by {@code BlobStore}.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@Table(name = "BLOBS")
+public class Blob {
+
+    @Id
+    @Column(name = "SHA256", length = 64)
+    private String sha256;
+
+    @Column(name = "BLOB_SIZE", nullable = false)
+    private Long size;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "CREATED_DATE", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Column(name = "RELEASED_DATE")
+    private LocalDateTime releasedDate;
+}
@@ -0,0 +1,42 @@
+package com.devteam.gradingservice.repository;
+
+import com.devteam.gradingservice.model.Blob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BlobRepository extends JpaRepository<Blob, String> {
+
+    /**
+     * Add a reference, creating the blob row on its first upload
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO BLOBS (SHA256, BLOB_SIZE, REF_COUNT, CREATED_DATE)
+            VALUES (:sha256, :size, 1, :now)
+            ON CONFLICT (SHA256) DO UPDATE SET REF_COUNT = BLOBS.REF_COUNT + 1, RELEASED_DATE = NULL
+            """, nativeQuery = true)
+    int acquire(@Param("sha256") String sha256, @Param("size") long size, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Blob b SET b.refCount = b.refCount - 1, b.releasedDate = :now WHERE b.sha256 = :sha256 AND b.refCount > 0")
+    int release(@Param("sha256") String sha256, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Blob b WHERE b.refCount = 0 AND b.releasedDate < :cutoff")
+    int deleteUnreferenced(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT b.sha256 FROM Blob b WHERE b.sha256 IN :sha256s")
+    List<String> findExisting(@Param("sha256s") Collection<String> sha256s);
+}
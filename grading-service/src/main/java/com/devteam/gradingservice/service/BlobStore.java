@@ -0,0 +1,237 @@
+package com.devteam.gradingservice.service;
+
+import com.devteam.gradingservice.exception.FileStorageErrorCode;
+import com.devteam.gradingservice.exception.FileStorageException;
+import com.devteam.gradingservice.repository.BlobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed file store: each distinct content is kept once, under its SHA-256 digest,
+ * and the BLOBS table counts the lecture files and submissions referencing it.
+ *
+ * Stored paths look like "sha256/&lt;digest&gt;" so they can be told apart from files stored before
+ * deduplication. Releasing the last reference does not delete anything: a periodic collection
+ * removes rows unreferenced for longer than file.blob-gc.grace-minutes, then blob files that are
+ * both unreferenced and untouched for that long. A re-upload of known content refreshes the file's
+ * modification time under a per-digest lock that collection also takes before deleting, so the
+ * re-upload either keeps the file or, when it was just deleted, stores its own copy again.
+ */
+@Slf4j
+@Component
+public class BlobStore {
+
+    static final String PATH_PREFIX = "sha256/";
+
+    private static final Pattern DIGEST = Pattern.compile("[0-9a-f]{64}");
+    private static final int COLLECT_BATCH_SIZE = 500;
+    private static final int LOCK_STRIPES = 64;
+
+    private final BlobRepository blobRepository;
+    private final Path blobLocation;
+    private final Path tempLocation;
+    private final Duration grace;
+    private final long collectIntervalMinutes;
+
+    /**
+     * Serializes commit and collection of the same digest; digests are uniform, so stripes spread evenly
+     */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "blob-store-gc");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BlobStore(
+            BlobRepository blobRepository,
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            @Value("${file.blob-dir:blobs}") String blobDir,
+            @Value("${file.blob-gc.grace-minutes:60}") long graceMinutes,
+            @Value("${file.blob-gc.interval-minutes:60}") long collectIntervalMinutes) {
+        this.blobRepository = blobRepository;
+        this.blobLocation = Paths.get(uploadDir, blobDir).toAbsolutePath().normalize();
+        this.tempLocation = this.blobLocation.resolve(".tmp");
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.collectIntervalMinutes = collectIntervalMinutes;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            Files.createDirectories(this.tempLocation);
+        } catch (IOException ex) {
+            throw new FileStorageException(FileStorageErrorCode.FILE_STORAGE_EXCEPTION);
+        }
+        this.scheduler.scheduleWithFixedDelay(this::collect, this.collectIntervalMinutes, this.collectIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.scheduler.shutdownNow();
+    }
+
+    /**
+     * Where an upload is written before its digest is known; on the same file system as the blobs
+     */
+    Path newTempFile() {
+        return this.tempLocation.resolve(UUID.randomUUID() + ".tmp");
+    }
+
+    /**
+     * Commit a fully written temporary file as the blob of the given digest and add a reference to it.
+     * When the content is already stored the temporary file is simply dropped.
+     */
+    String commit(Path tempFile, String sha256, long size) throws IOException {
+        final Path blob = blobFile(sha256);
+        synchronized (lockFor(sha256)) {
+            if (!touch(blob)) {
+                Files.createDirectories(blob.getParent());
+                Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.deleteIfExists(tempFile);
+                log.debug("Reusing stored blob {}", sha256);
+            }
+        }
+        this.blobRepository.acquire(sha256, size, LocalDateTime.now());
+        return PATH_PREFIX + sha256;
+    }
+
+    static boolean isBlobPath(String path) {
+        return path != null && path.startsWith(PATH_PREFIX);
+    }
+
+    Path resolve(String path) {
+        return blobFile(digestOf(path));
+    }
+
+    /**
+     * Drop one reference; the content stays until collected
+     */
+    void release(String path) {
+        this.blobRepository.release(digestOf(path), LocalDateTime.now());
+    }
+
+    void collect() {
+        try {
+            final Instant cutoff = Instant.now().minus(this.grace);
+            final int rows = this.blobRepository.deleteUnreferenced(LocalDateTime.now().minus(this.grace));
+
+            int files = 0;
+            final List<Path> candidates = new ArrayList<>(COLLECT_BATCH_SIZE);
+            try (Stream<Path> paths = Files.walk(this.blobLocation, 2)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    if (Files.isRegularFile(path) && !path.startsWith(this.tempLocation)
+                            && DIGEST.matcher(path.getFileName().toString()).matches() && isStale(path, cutoff)) {
+                        candidates.add(path);
+                        if (candidates.size() == COLLECT_BATCH_SIZE) {
+                            files += deleteUnreferenced(candidates, cutoff);
+                            candidates.clear();
+                        }
+                    }
+                }
+            }
+            files += deleteUnreferenced(candidates, cutoff);
+
+            try (Stream<Path> temps = Files.list(this.tempLocation)) {
+                for (Path temp : (Iterable<Path>) temps::iterator) {
+                    if (isStale(temp, cutoff)) {
+                        Files.deleteIfExists(temp);
+                    }
+                }
+            }
+
+            if (rows > 0 || files > 0) {
+                log.info("Blob collection removed {} row(s) and {} file(s)", rows, files);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Blob collection failed: {}", e.getMessage());
+        }
+    }
+
+    private int deleteUnreferenced(List<Path> candidates, Instant cutoff) throws IOException {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        final List<String> digests = candidates.stream().map(path -> path.getFileName().toString()).toList();
+        final Set<String> referenced = new HashSet<>(this.blobRepository.findExisting(digests));
+
+        int deleted = 0;
+        for (Path candidate : candidates) {
+            final String digest = candidate.getFileName().toString();
+            if (referenced.contains(digest)) {
+                continue;
+            }
+            // A commit reusing this blob touches it under the same lock, so it cannot slip in between
+            synchronized (lockFor(digest)) {
+                if (isStale(candidate, cutoff) && Files.deleteIfExists(candidate)) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Refresh the modification time of a stored blob; false when there is no such file
+     */
+    private static boolean touch(Path blob) throws IOException {
+        try {
+            Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private Object lockFor(String sha256) {
+        return this.locks[Integer.parseInt(sha256, 0, 2, 16) % LOCK_STRIPES];
+    }
+
+    private static boolean isStale(Path path, Instant cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private Path blobFile(String sha256) {
+        return this.blobLocation.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    private static String digestOf(String path) {
+        final String digest = path.substring(PATH_PREFIX.length());
+        if (!DIGEST.matcher(digest).matches()) {
+            throw new FileStorageException(FileStorageErrorCode.INVALID_FILE_PATH, path);
+        }
+        return digest;
+    }
+}
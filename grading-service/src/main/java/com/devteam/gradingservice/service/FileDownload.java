@@ -0,0 +1,13 @@
+package com.devteam.gradingservice.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * A stored file ready to be served: where it is on disk, its entity tag, when it was uploaded, and
+ * the name and content type it was uploaded with.
+ *
+ * The upload time comes from the owning row rather than the file, since deduplicated content is
+ * shared and its file is touched whenever anyone uploads it again.
+ */
+public record FileDownload(Path file, String etag, Instant lastModified, String fileName, String contentType) {}
@@ -0,0 +1,268 @@
+package com.devteam.gradingservice.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serves stored files with HTTP caching and resumable downloads.
+ *
+ * Responses carry an ETag and Last-Modified, so If-None-Match and If-Modified-Since revalidations
+ * end in a bodiless 304. Range requests get a 206 with one range or a multipart/byteranges body,
+ * and If-Range only honours the range while the file is unchanged. A single range or a whole file
+ * is handed to Tomcat's sendfile when the connector supports it, so the bytes go from the page
+ * cache to the socket without passing through the JVM; otherwise they are copied with
+ * FileChannel.transferTo.
+ */
+@Service
+@Slf4j
+public class FileDownloadService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * More ranges than this are answered with the whole file, which is cheaper than many tiny parts
+     */
+    private static final int MAX_RANGES = 16;
+
+    public void serve(FileDownload download, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final Path file = download.file();
+        final long length = Files.size(file);
+        final long lastModified = download.lastModified().toEpochMilli() / 1000 * 1000;
+        final String contentType = download.contentType() != null ? download.contentType() : "application/octet-stream";
+
+        response.setHeader(HttpHeaders.ETAG, download.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Downloads need authentication, so shared caches must not keep them; browsers revalidate
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (isNotModified(request, download.etag(), lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(download.fileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        final List<long[]> ranges = rangeApplies(request, download.etag(), lastModified)
+                ? parseRanges(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+        final boolean head = "HEAD".equals(request.getMethod());
+
+        if (ranges != null && ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+
+        if (ranges == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                send(file, 0, length, request, response);
+            }
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            final long[] range = ranges.get(0);
+            response.setContentType(contentType);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + length);
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            if (!head) {
+                send(file, range[0], range[1] - range[0] + 1, request, response);
+            }
+            return;
+        }
+
+        final String boundary = UUID.randomUUID().toString();
+        final List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long bodyLength = 0;
+        for (long[] range : ranges) {
+            final byte[] partHeader = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": bytes " + range[0] + "-" + range[1] + "/" + length + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(partHeader);
+            bodyLength += partHeader.length + range[1] - range[0] + 1;
+        }
+        final byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        bodyLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(bodyLength);
+        if (head) {
+            return;
+        }
+
+        final ServletOutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final WritableByteChannel target = Channels.newChannel(out);
+            for (int i = 0; i < ranges.size(); i++) {
+                out.write(partHeaders.get(i));
+                transfer(channel, ranges.get(i)[0], ranges.get(i)[1] - ranges.get(i)[0] + 1, target);
+            }
+        }
+        out.write(closing);
+    }
+
+    /**
+     * Strong tag of deduplicated content, named after its SHA-256 digest
+     */
+    static String contentTag(String sha256) {
+        return "\"" + sha256 + "\"";
+    }
+
+    /**
+     * Weak tag for files stored before deduplication, whose digest is not known
+     */
+    static String fileTag(Path file) throws IOException {
+        return "W/\"" + Long.toHexString(Files.size(file)) + "-" + Long.toHexString(Files.getLastModifiedTime(file).toMillis()) + "\"";
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        final String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // Weak comparison, as required for If-None-Match
+            final String opaque = opaque(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                final String tag = candidate.trim();
+                if (tag.equals("*") || opaque(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        final long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range makes the Range conditional on the file being unchanged; strong comparison only
+     */
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        if (request.getHeader(HttpHeaders.RANGE) == null) {
+            return false;
+        }
+        final String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+        }
+        return dateHeader(request, HttpHeaders.IF_RANGE) == lastModified;
+    }
+
+    /**
+     * Satisfiable ranges as inclusive [first, last] pairs, an empty list when none is satisfiable,
+     * or null when the header is malformed or asks for too many ranges, in which case it is ignored
+     */
+    private static List<long[]> parseRanges(String header, long length) {
+        if (!header.startsWith("bytes=")) {
+            return null;
+        }
+        final String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+
+        final List<long[]> ranges = new ArrayList<>(specs.length);
+        for (String rawSpec : specs) {
+            final String spec = rawSpec.trim();
+            final int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                final long first;
+                final long last;
+                if (dash == 0) {
+                    final long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix <= 0) {
+                        continue;
+                    }
+                    first = Math.max(0, length - suffix);
+                    last = length - 1;
+                } else {
+                    first = Long.parseLong(spec.substring(0, dash));
+                    if (dash == spec.length() - 1) {
+                        last = length - 1;
+                    } else {
+                        final long requestedLast = Long.parseLong(spec.substring(dash + 1));
+                        if (requestedLast < first) {
+                            return null;
+                        }
+                        last = Math.min(requestedLast, length - 1);
+                    }
+                }
+                if (first < length) {
+                    ranges.add(new long[]{first, last});
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ranges;
+    }
+
+    private static void send(Path file, long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target) throws IOException {
+        long sent = 0;
+        while (sent < count) {
+            final long transferred = channel.transferTo(position + sent, count - sent, target);
+            if (transferred <= 0) {
+                throw new IOException("File ended before the requested range was sent");
+            }
+            sent += transferred;
+        }
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.devteam.gradingservice.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Magic bytes of the accepted upload formats, so a file's type is taken from its content rather
+ * than from the name or Content-Type the client chose to send.
+ */
+enum FileSignature {
+
+    PDF(List.of(".pdf"), "application/pdf", bytes(0x25, 0x50, 0x44, 0x46)),
+    // Legacy Office documents are OLE2 compound files
+    OLE2(List.of(".doc", ".ppt", ".xls"), null, bytes(0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)),
+    // OOXML documents are ZIP archives
+    ZIP(List.of(".zip", ".docx", ".pptx", ".xlsx"), null, bytes(0x50, 0x4B, 0x03, 0x04), bytes(0x50, 0x4B, 0x05, 0x06)),
+    RAR(List.of(".rar"), "application/vnd.rar", bytes(0x52, 0x61, 0x72, 0x21, 0x1A, 0x07));
+
+    /**
+     * Enough leading bytes to tell every signature apart
+     */
+    static final int HEADER_LENGTH = 8;
+
+    private final List<String> extensions;
+    private final String contentType;
+    private final byte[][] magics;
+
+    FileSignature(List<String> extensions, String contentType, byte[]... magics) {
+        this.extensions = extensions;
+        this.contentType = contentType;
+        this.magics = magics;
+    }
+
+    static Optional<FileSignature> detect(byte[] header, int length) {
+        for (FileSignature signature : values()) {
+            for (byte[] magic : signature.magics) {
+                if (length >= magic.length && Arrays.equals(header, 0, magic.length, magic, 0, magic.length)) {
+                    return Optional.of(signature);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean allows(String extension) {
+        return this.extensions.contains(extension);
+    }
+
+    /**
+     * Canonical content type for a file of this signature with the given extension
+     */
+    String contentType(String extension) {
+        if (this.contentType != null) {
+            return this.contentType;
+        }
+        return switch (extension) {
+            case ".doc" -> "application/msword";
+            case ".ppt" -> "application/vnd.ms-powerpoint";
+            case ".xls" -> "application/vnd.ms-excel";
+            case ".docx" -> "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+            case ".pptx" -> "application/vnd.openxmlformats-officedocument.presentationml.presentation";
+            case ".xlsx" -> "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+            default -> "application/zip";
+        };
+    }
+
+    private static byte[] bytes(int... values) {
+        final byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+}
@@ -3,23 +3,33 @@ package com.devteam.gradingservice.service;
 import com.devteam.gradingservice.exception.FileStorageErrorCode;
 import com.devteam.gradingservice.exception.FileStorageException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @Slf4j
@@ -27,6 +37,11 @@ public class FileStorageService {
 
     private final Path lectureStorageLocation;
     private final Path submissionStorageLocation;
+    private final Path stagingLocation;
+    private final BlobStore blobStore;
+    private final ThreadPoolExecutor uploadExecutor;
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
 
     @Value("${file.max-size:10485760}") // Default 10MB
     private long maxFileSize;
@@ -65,10 +80,35 @@ public class FileStorageService {
     public FileStorageService(
             @Value("${file.upload-dir:uploads}") String uploadDir,
             @Value("${file.lecture-dir:lectures}") String lectureDir,
-            @Value("${file.submission-dir:submissions}") String submissionDir) {
+            @Value("${file.submission-dir:submissions}") String submissionDir,
+            @Value("${spring.servlet.multipart.location:}") String stagingDir,
+            @Value("${file.upload-threads:4}") int uploadThreads,
+            BlobStore blobStore) {
         
         this.lectureStorageLocation = Paths.get(uploadDir, lectureDir).toAbsolutePath().normalize();
         this.submissionStorageLocation = Paths.get(uploadDir, submissionDir).toAbsolutePath().normalize();
+        this.stagingLocation = stagingDir.isEmpty() ? null : Paths.get(stagingDir).toAbsolutePath().normalize();
+        this.blobStore = blobStore;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // A full queue makes the uploading request store the file itself, which bounds the backlog
+        this.uploadExecutor = new ThreadPoolExecutor(
+                uploadThreads,
+                uploadThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(uploadThreads * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "file-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.uploadExecutor.shutdownNow();
     }
 
     @PostConstruct
@@ -76,6 +116,9 @@ public class FileStorageService {
         try {
             Files.createDirectories(this.lectureStorageLocation);
             Files.createDirectories(this.submissionStorageLocation);
+            if (this.stagingLocation != null) {
+                Files.createDirectories(this.stagingLocation);
+            }
             log.info("Created upload directories - Lectures: {}, Submissions: {}", 
                     lectureStorageLocation, submissionStorageLocation);
         } catch (IOException ex) {
@@ -86,101 +129,191 @@ public class FileStorageService {
     /**
      * Store lecture file
      */
-    public String storeLectureFile(MultipartFile file, String courseId) {
-        return storeFile(file, lectureStorageLocation, courseId);
+    public StoredFile storeLectureFile(MultipartFile file) {
+        return storeFile(file);
     }
 
     /**
-     * Store submission file
+     * Store several lecture files concurrently, returning them in the order given.
+     *
+     * Every upload is waited for before returning. If any of them fails, the ones that were stored
+     * are deleted again and the first failure is rethrown, so either all files are stored or none.
      */
-    public String storeSubmissionFile(MultipartFile file, String assignmentId, String studentId) {
-        String subDirectory = assignmentId + "/" + studentId;
-        Path targetLocation = submissionStorageLocation.resolve(subDirectory);
-        
-        try {
-            Files.createDirectories(targetLocation);
-        } catch (IOException ex) {
-            throw new FileStorageException(FileStorageErrorCode.FILE_STORAGE_EXCEPTION);
+    public List<StoredFile> storeLectureFiles(List<MultipartFile> files) {
+        List<CompletableFuture<StoredFile>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> storeFile(file), uploadExecutor))
+                .toList();
+
+        List<StoredFile> stored = new ArrayList<>(uploads.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<StoredFile> upload : uploads) {
+            try {
+                stored.add(upload.join());
+            } catch (CompletionException ex) {
+                if (failure == null) {
+                    failure = ex.getCause() instanceof RuntimeException cause ? cause : ex;
+                }
+            }
         }
-        
-        // Pass subDirectory so the returned path is relative to submissionStorageLocation
-        return storeFile(file, submissionStorageLocation, subDirectory);
+
+        if (failure != null) {
+            deleteLectureFiles(stored);
+            throw failure;
+        }
+        return stored;
     }
 
     /**
-     * Common store file method
+     * Undo {@link #storeLectureFiles} once its files are no longer going to be referenced.
+     * Failures are only logged, so that the error which caused the cleanup is the one reported.
      */
-    private String storeFile(MultipartFile file, Path storageLocation, String subDirectory) {
+    public void deleteLectureFiles(List<StoredFile> files) {
+        for (StoredFile file : files) {
+            try {
+                deleteLectureFile(file.path());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to clean up stored file: {}", file.path(), ex);
+            }
+        }
+    }
+
+    /**
+     * Store submission file
+     */
+    public StoredFile storeSubmissionFile(MultipartFile file) {
+        return storeFile(file);
+    }
+
+    /**
+     * Common store file method.
+     *
+     * The upload is moved (not copied) from the multipart staging area into a temporary file of the
+     * blob store, which spring.servlet.multipart.location keeps on the same file system. A single
+     * read pass then enforces the size limit, checks the magic bytes against the extension and
+     * computes the SHA-256 digest, under which the blob store keeps the content once however many
+     * times it is uploaded. A rejected or failed upload leaves nothing behind.
+     */
+    private StoredFile storeFile(MultipartFile file) {
         // Validate file
-        validateFile(file);
+        String fileExtension = validateFile(file);
 
         // Normalize file name
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
-        
+
+        // Check if the file's name contains invalid characters
+        if (originalFileName.contains("..")) {
+            throw new FileStorageException(FileStorageErrorCode.INVALID_FILE_PATH, originalFileName);
+        }
+
+        Path tempFile = blobStore.newTempFile();
         try {
-            // Check if the file's name contains invalid characters
-            if (originalFileName.contains("..")) {
-                throw new FileStorageException(FileStorageErrorCode.INVALID_FILE_PATH, originalFileName);
-            }
+            // Part.write renames the staged upload when it can, so its bytes are written to disk once
+            file.transferTo(tempFile.toFile());
 
-            // Generate unique filename
-            String fileExtension = "";
-            int dotIndex = originalFileName.lastIndexOf('.');
-            if (dotIndex > 0) {
-                fileExtension = originalFileName.substring(dotIndex);
-            }
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
+            UploadScan scan = scan(tempFile);
+            FileSignature signature = FileSignature.detect(scan.header(), scan.headerLength())
+                    .filter(detected -> detected.allows(fileExtension))
+                    .orElseThrow(() -> new FileStorageException(FileStorageErrorCode.FILE_CONTENT_MISMATCH, fileExtension));
 
-            // Copy file to the target location
-            Path targetLocation = storageLocation;
-            if (subDirectory != null && !subDirectory.isEmpty()) {
-                targetLocation = storageLocation.resolve(subDirectory);
-                Files.createDirectories(targetLocation);
-            }
-            
-            Path destinationFile = targetLocation.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), destinationFile, StandardCopyOption.REPLACE_EXISTING);
+            String path = blobStore.commit(tempFile, scan.sha256(), scan.size());
+            log.info("File stored successfully: {} ({} bytes)", path, scan.size());
 
-            log.info("File stored successfully: {}", destinationFile);
-            
-            // Return relative path from storage location
-            return storageLocation.relativize(destinationFile).toString();
+            return new StoredFile(path, scan.size(), signature.contentType(fileExtension), scan.sha256());
 
         } catch (IOException ex) {
             log.error("Failed to store file: {}", originalFileName, ex);
             throw new FileStorageException(FileStorageErrorCode.FILE_STORAGE_EXCEPTION);
+        } finally {
+            deleteQuietly(tempFile);
         }
     }
 
     /**
-     * Load lecture file as Resource
+     * Read the stored upload once: size, leading bytes and SHA-256 digest
      */
-    public Resource loadLectureFileAsResource(String fileName) {
-        return loadFileAsResource(fileName, lectureStorageLocation);
+    private UploadScan scan(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] header = new byte[FileSignature.HEADER_LENGTH];
+        int headerLength = 0;
+        long size = 0;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (headerLength < header.length) {
+                    int copied = Math.min(read, header.length - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, copied);
+                    headerLength += copied;
+                }
+                size += read;
+                if (size > maxFileSize) {
+                    throw new FileStorageException(FileStorageErrorCode.FILE_TOO_LARGE, maxFileSize / (1024 * 1024));
+                }
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        if (size == 0) {
+            throw new FileStorageException(FileStorageErrorCode.FILE_STORAGE_EXCEPTION);
+        }
+        return new UploadScan(size, header, headerLength, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Failed to delete temporary upload: {}", file, ex);
+        }
+    }
+
+    private record UploadScan(long size, byte[] header, int headerLength, String sha256) {}
+
+    /**
+     * Prepare a lecture file for download
+     */
+    public FileDownload prepareLectureDownload(String fileName, String originalFileName, String contentType, LocalDateTime uploadedDate) {
+        return prepareDownload(fileName, lectureStorageLocation, originalFileName, contentType, uploadedDate);
     }
 
     /**
-     * Load submission file as Resource
+     * Prepare a submission file for download
      */
-    public Resource loadSubmissionFileAsResource(String fileName) {
-        return loadFileAsResource(fileName, submissionStorageLocation);
+    public FileDownload prepareSubmissionDownload(String fileName, String originalFileName, String contentType, LocalDateTime uploadedDate) {
+        return prepareDownload(fileName, submissionStorageLocation, originalFileName, contentType, uploadedDate);
     }
 
     /**
-     * Common load file method
+     * Common download method. Deduplicated files are tagged with their content digest, and dated by
+     * the upload that references them, not by the shared file's modification time.
      */
-    private Resource loadFileAsResource(String fileName, Path storageLocation) {
+    private FileDownload prepareDownload(String fileName, Path storageLocation, String originalFileName, String contentType, LocalDateTime uploadedDate) {
+        Path filePath = resolve(fileName, storageLocation);
+        if (!Files.isRegularFile(filePath)) {
+            throw new FileStorageException(FileStorageErrorCode.FILE_NOT_FOUND, fileName);
+        }
         try {
-            Path filePath = storageLocation.resolve(fileName).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists()) {
-                return resource;
-            } else {
-                throw new FileStorageException(FileStorageErrorCode.FILE_NOT_FOUND, fileName);
-            }
-        } catch (MalformedURLException ex) {
-            log.error("File not found: {}", fileName, ex);
+            String etag = BlobStore.isBlobPath(fileName)
+                    ? FileDownloadService.contentTag(filePath.getFileName().toString())
+                    : FileDownloadService.fileTag(filePath);
+            Instant lastModified = uploadedDate != null
+                    ? uploadedDate.atZone(ZoneId.systemDefault()).toInstant()
+                    : Files.getLastModifiedTime(filePath).toInstant();
+            return new FileDownload(filePath, etag, lastModified, originalFileName, contentType);
+        } catch (IOException ex) {
+            log.error("File not readable: {}", fileName, ex);
             throw new FileStorageException(FileStorageErrorCode.FILE_NOT_FOUND, fileName);
         }
     }
@@ -200,9 +333,14 @@ public class FileStorageService {
     }
 
     /**
-     * Common delete file method
+     * Common delete file method. Deduplicated content is shared, so only one reference to it is released.
      */
     private void deleteFile(String fileName, Path storageLocation) {
+        if (BlobStore.isBlobPath(fileName)) {
+            blobStore.release(fileName);
+            log.info("File reference released: {}", fileName);
+            return;
+        }
         try {
             Path filePath = storageLocation.resolve(fileName).normalize();
             Files.deleteIfExists(filePath);
@@ -216,7 +354,7 @@ public class FileStorageService {
     /**
      * Validate file
      */
-    private void validateFile(MultipartFile file) {
+    private String validateFile(MultipartFile file) {
         // Check if file is empty
         if (file.isEmpty()) {
             throw new FileStorageException(FileStorageErrorCode.FILE_STORAGE_EXCEPTION);
@@ -256,6 +394,7 @@ public class FileStorageService {
 
         log.debug("File validation passed - Name: {}, Extension: {}, ContentType: {}, Size: {} bytes",
                 originalFileName, fileExtension, contentType, file.getSize());
+        return fileExtension;
     }
 
     /**
@@ -263,10 +402,17 @@ public class FileStorageService {
      */
     public long getFileSize(String fileName, Path storageLocation) {
         try {
-            Path filePath = storageLocation.resolve(fileName).normalize();
+            Path filePath = resolve(fileName, storageLocation);
             return Files.size(filePath);
         } catch (IOException ex) {
             return 0;
         }
     }
+
+    /**
+     * Blob paths resolve in the blob store; paths stored before deduplication stay under their storage location
+     */
+    private Path resolve(String fileName, Path storageLocation) {
+        return BlobStore.isBlobPath(fileName) ? blobStore.resolve(fileName) : storageLocation.resolve(fileName).normalize();
+    }
 }
@@ -13,9 +13,9 @@ import com.devteam.gradingservice.repository.LectureFileRepository;
 import com.devteam.gradingservice.repository.LectureRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
@@ -29,50 +29,48 @@ public class LectureService {
     private final LectureRepository lectureRepository;
     private final LectureFileRepository lectureFileRepository;
     private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * Create lecture with multiple files
+     * Create lecture with multiple files.
+     *
+     * Files are stored concurrently before the transaction starts, so the database connection is
+     * only held to persist metadata. If the lecture cannot be saved, the stored files are removed.
      */
-    @Transactional
     public LectureResponse createLecture(CreateLectureDTO request, List<MultipartFile> files) {
         // Check if lecture title already exists in course
         if (lectureRepository.existsByTitleIgnoreCaseAndCourseId(request.getTitle(), request.getCourseId())) {
             throw new BusinessException(ErrorCode.LECTURE_ALREADY_EXISTS, request.getTitle());
         }
 
-        // Create lecture entity
-        Lecture lecture = Lecture.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .courseId(request.getCourseId())
-                .files(new ArrayList<>())
-                .build();
-
-        // Store and add files
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {
-                    String filePath = fileStorageService.storeLectureFile(file, request.getCourseId());
-                    
-                    LectureFile lectureFile = LectureFile.builder()
-                            .fileName(file.getOriginalFilename())
-                            .filePath(filePath)
-                            .fileSize(file.getSize())
-                            .contentType(file.getContentType())
-                            .build();
-                    
-                    lecture.addFile(lectureFile);
-                }
-            }
+        List<MultipartFile> uploads = nonEmptyFiles(files);
+        List<StoredFile> storedFiles = fileStorageService.storeLectureFiles(uploads);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // Create lecture entity
+                Lecture lecture = Lecture.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .courseId(request.getCourseId())
+                        .files(new ArrayList<>())
+                        .build();
+
+                addStoredFiles(lecture, uploads, storedFiles);
+
+                Lecture savedLecture = lectureRepository.save(lecture);
+                log.info("Lecture created successfully with {} files: {}",
+                        savedLecture.getFiles().size(), savedLecture.getId());
+
+                return mapToResponse(savedLecture);
+            });
+        } catch (RuntimeException ex) {
+            fileStorageService.deleteLectureFiles(storedFiles);
+            throw ex;
         }
-
-        Lecture savedLecture = lectureRepository.save(lecture);
-        log.info("Lecture created successfully with {} files: {}", 
-                savedLecture.getFiles().size(), savedLecture.getId());
-
-        return mapToResponse(savedLecture);
     }
 
+    @Transactional(readOnly = true)
     public LectureResponse getLectureById(String lectureId) {
         Lecture lecture = lectureRepository.findById(lectureId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LECTURE_NOT_FOUND, lectureId));
@@ -89,11 +87,12 @@ public class LectureService {
     /**
      * Download a specific file from a lecture
      */
-    public Resource downloadLectureFile(String fileId) {
+    public FileDownload downloadLectureFile(String fileId) {
         LectureFile lectureFile = lectureFileRepository.findById(fileId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LECTURE_FILE_NOT_FOUND, fileId));
         
-        return fileStorageService.loadLectureFileAsResource(lectureFile.getFilePath());
+        return fileStorageService.prepareLectureDownload(
+                lectureFile.getFilePath(), lectureFile.getFileName(), lectureFile.getContentType(), lectureFile.getCreatedDate());
     }
 
     /**
@@ -135,34 +134,32 @@ public class LectureService {
     }
 
     /**
-     * Add files to existing lecture
+     * Add files to existing lecture. Files are stored before the transaction, as in {@link #createLecture}.
      */
-    @Transactional
     public LectureResponse addFilesToLecture(String lectureId, List<MultipartFile> files) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.LECTURE_NOT_FOUND, lectureId));
-
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                if (file != null && !file.isEmpty()) {
-                    String filePath = fileStorageService.storeLectureFile(file, lecture.getCourseId());
-                    
-                    LectureFile lectureFile = LectureFile.builder()
-                            .fileName(file.getOriginalFilename())
-                            .filePath(filePath)
-                            .fileSize(file.getSize())
-                            .contentType(file.getContentType())
-                            .build();
-                    
-                    lecture.addFile(lectureFile);
-                }
-            }
+        if (!lectureRepository.existsById(lectureId)) {
+            throw new BusinessException(ErrorCode.LECTURE_NOT_FOUND, lectureId);
         }
 
-        Lecture updatedLecture = lectureRepository.save(lecture);
-        log.info("Added {} files to lecture: {}", files != null ? files.size() : 0, lectureId);
+        List<MultipartFile> uploads = nonEmptyFiles(files);
+        List<StoredFile> storedFiles = fileStorageService.storeLectureFiles(uploads);
 
-        return mapToResponse(updatedLecture);
+        try {
+            return transactionTemplate.execute(status -> {
+                Lecture lecture = lectureRepository.findById(lectureId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.LECTURE_NOT_FOUND, lectureId));
+
+                addStoredFiles(lecture, uploads, storedFiles);
+
+                Lecture updatedLecture = lectureRepository.save(lecture);
+                log.info("Added {} files to lecture: {}", storedFiles.size(), lectureId);
+
+                return mapToResponse(updatedLecture);
+            });
+        } catch (RuntimeException ex) {
+            fileStorageService.deleteLectureFiles(storedFiles);
+            throw ex;
+        }
     }
 
     /**
@@ -208,6 +205,30 @@ public class LectureService {
         log.info("Lecture deleted successfully: {}", lectureId);
     }
 
+    private static List<MultipartFile> nonEmptyFiles(List<MultipartFile> files) {
+        if (files == null) {
+            return List.of();
+        }
+        return files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+    }
+
+    private static void addStoredFiles(Lecture lecture, List<MultipartFile> uploads, List<StoredFile> storedFiles) {
+        for (int i = 0; i < uploads.size(); i++) {
+            StoredFile storedFile = storedFiles.get(i);
+
+            LectureFile lectureFile = LectureFile.builder()
+                    .fileName(uploads.get(i).getOriginalFilename())
+                    .filePath(storedFile.path())
+                    .fileSize(storedFile.size())
+                    .contentType(storedFile.contentType())
+                    .build();
+
+            lecture.addFile(lectureFile);
+        }
+    }
+
     private LectureResponse mapToResponse(Lecture lecture) {
         List<LectureFileResponse> fileResponses = lecture.getFiles().stream()
                 .map(this::mapToFileResponse)
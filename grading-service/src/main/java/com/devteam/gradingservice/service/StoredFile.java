@@ -0,0 +1,7 @@
+package com.devteam.gradingservice.service;
+
+/**
+ * A file committed to storage: its path relative to the storage location, its verified size,
+ * the content type detected from its magic bytes and the hex SHA-256 digest of its content.
+ */
+public record StoredFile(String path, long size, String contentType, String sha256) {}
@@ -0,0 +1,16 @@
+package com.devteam.gradingservice.service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The files of an assignment's submissions, laid out as they will appear in the exported ZIP.
+ */
+public record SubmissionArchive(String fileName, List<Entry> entries) {
+
+    /**
+     * One file of the archive. Stored entries are written uncompressed, for content that is already compressed.
+     */
+    public record Entry(String name, Path file, Instant lastModified, boolean stored) {}
+}
@@ -0,0 +1,165 @@
+package com.devteam.gradingservice.service;
+
+import com.devteam.gradingservice.exception.BusinessException;
+import com.devteam.gradingservice.exception.ErrorCode;
+import com.devteam.gradingservice.exception.FileStorageException;
+import com.devteam.gradingservice.model.Assignment;
+import com.devteam.gradingservice.model.Submission;
+import com.devteam.gradingservice.repository.AssignmentRepository;
+import com.devteam.gradingservice.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exports every submission of an assignment as one ZIP, streamed straight to the response.
+ *
+ * Entries are read from storage and written to the client one buffer at a time, so memory use does
+ * not depend on the size of the archive and nothing is written to disk. Each student gets a folder
+ * named after them. Formats that are already compressed are STORED rather than deflated again,
+ * which costs one extra read of the file to compute the CRC the ZIP header needs up front.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionArchiveService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(".zip", ".rar", ".docx", ".pptx", ".xlsx", ".pdf");
+
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final FileStorageService fileStorageService;
+
+    /**
+     * Resolve the archive layout up front, so that nothing can fail on the request thread once streaming starts
+     */
+    public SubmissionArchive prepareArchive(String assignmentId) {
+        Assignment assignment = assignmentRepository.findById(assignmentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOTFOUND, assignmentId));
+
+        List<SubmissionArchive.Entry> entries = new ArrayList<>();
+        Set<String> usedNames = new HashSet<>();
+        for (Submission submission : submissionRepository.findAllByAssignmentId(assignmentId)) {
+            FileDownload file;
+            try {
+                file = fileStorageService.prepareSubmissionDownload(
+                        submission.getFilePath(), submission.getFileName(), submission.getContentType(), submission.getSubmittedDate());
+            } catch (FileStorageException ex) {
+                log.warn("Submission {} left out of the archive: {}", submission.getId(), ex.getMessage());
+                continue;
+            }
+
+            String folder = sanitize(submission.getLastname() + "_" + submission.getFirstname() + "_" + submission.getStudentId());
+            String fileName = sanitize(submission.getFileName());
+            String name = uniqueName(folder, fileName, usedNames);
+            entries.add(new SubmissionArchive.Entry(name, file.file(), file.lastModified(), isCompressed(fileName)));
+        }
+
+        return new SubmissionArchive(sanitize(assignment.getTitle()) + "-submissions.zip", entries);
+    }
+
+    /**
+     * A file that can no longer be opened (deleted or replaced since the layout was prepared) is
+     * left out with a warning instead of breaking a download that has already started. Once opened,
+     * the same handle serves the CRC pass and the copy, so a later delete does not affect the entry.
+     */
+    public void writeArchive(SubmissionArchive archive, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int written = 0;
+
+        for (SubmissionArchive.Entry entry : archive.entries()) {
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(entry.file(), StandardOpenOption.READ);
+            } catch (IOException ex) {
+                log.warn("Left {} out of archive {}: {}", entry.name(), archive.fileName(), ex.toString());
+                continue;
+            }
+
+            try (channel) {
+                ZipEntry zipEntry = new ZipEntry(entry.name());
+                zipEntry.setTime(entry.lastModified().toEpochMilli());
+                if (entry.stored()) {
+                    long size = channel.size();
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(size);
+                    zipEntry.setCompressedSize(size);
+                    zipEntry.setCrc(crc32(channel, buffer));
+                    channel.position(0);
+                }
+
+                zip.putNextEntry(zipEntry);
+                InputStream in = Channels.newInputStream(channel);
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    zip.write(buffer, 0, read);
+                }
+                zip.closeEntry();
+                written++;
+            }
+        }
+
+        zip.finish();
+        zip.flush();
+        log.info("Streamed archive {} with {} of {} file(s)", archive.fileName(), written, archive.entries().size());
+    }
+
+    private static long crc32(FileChannel channel, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        InputStream in = Channels.newInputStream(channel);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            crc.update(buffer, 0, read);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Entry names must be unique within a ZIP, and a student can have several submissions with the
+     * same file name. Later ones get a " (2)", " (3)", ... suffix before the extension. Compared
+     * case-insensitively, since the archive may be extracted on a case-insensitive file system.
+     */
+    private static String uniqueName(String folder, String fileName, Set<String> usedNames) {
+        int dotIndex = fileName.lastIndexOf('.');
+        String base = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        String extension = dotIndex > 0 ? fileName.substring(dotIndex) : "";
+
+        String name = folder + "/" + fileName;
+        for (int copy = 2; !usedNames.add(name.toLowerCase(Locale.ROOT)); copy++) {
+            name = folder + "/" + base + " (" + copy + ")" + extension;
+        }
+        return name;
+    }
+
+    private static boolean isCompressed(String fileName) {
+        int dotIndex = fileName.lastIndexOf('.');
+        return dotIndex > 0 && COMPRESSED_EXTENSIONS.contains(fileName.substring(dotIndex).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Keep names portable across the file systems the archive may be extracted on
+     */
+    private static String sanitize(String name) {
+        String sanitized = name == null ? "" : name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").trim();
+        return sanitized.isEmpty() || sanitized.chars().allMatch(c -> c == '.') ? "_" : sanitized;
+    }
+}
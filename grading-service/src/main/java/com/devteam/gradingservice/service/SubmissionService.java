@@ -11,7 +11,6 @@ import com.devteam.gradingservice.security.SecurityUtils;
 import com.devteam.gradingservice.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -57,12 +56,12 @@ public class SubmissionService {
             fileStorageService.deleteSubmissionFile(existingSubmission.getFilePath());
 
             // Store new file
-            String filePath = fileStorageService.storeSubmissionFile(file, assignmentId, studentId);
+            StoredFile storedFile = fileStorageService.storeSubmissionFile(file);
 
             existingSubmission.setFileName(file.getOriginalFilename());
-            existingSubmission.setFilePath(filePath);
-            existingSubmission.setFileSize(file.getSize());
-            existingSubmission.setContentType(file.getContentType());
+            existingSubmission.setFilePath(storedFile.path());
+            existingSubmission.setFileSize(storedFile.size());
+            existingSubmission.setContentType(storedFile.contentType());
             existingSubmission.setSubmittedDate(now);
             existingSubmission.setStatus(status);
             existingSubmission.setFirstname(currentUser.getFirstname());
@@ -74,7 +73,7 @@ public class SubmissionService {
         }
 
         // Store file
-        String filePath = fileStorageService.storeSubmissionFile(file, assignmentId, studentId);
+        StoredFile storedFile = fileStorageService.storeSubmissionFile(file);
 
         // Create submission entity
         Submission submission = Submission.builder()
@@ -83,9 +82,9 @@ public class SubmissionService {
                 .firstname(currentUser.getFirstname())
                 .lastname(currentUser.getLastname())
                 .fileName(file.getOriginalFilename())
-                .filePath(filePath)
-                .fileSize(file.getSize())
-                .contentType(file.getContentType())
+                .filePath(storedFile.path())
+                .fileSize(storedFile.size())
+                .contentType(storedFile.contentType())
                 .submittedDate(now)
                 .status(status)
                 .build();
@@ -114,11 +113,12 @@ public class SubmissionService {
                 .map(this::mapToResponse);
     }
 
-    public Resource downloadSubmission(String submissionId) {
+    public FileDownload downloadSubmission(String submissionId) {
         Submission submission = submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SUBMISSION_NOTFOUND, submissionId));
         
-        return fileStorageService.loadSubmissionFileAsResource(submission.getFilePath());
+        return fileStorageService.prepareSubmissionDownload(
+                submission.getFilePath(), submission.getFileName(), submission.getContentType(), submission.getSubmittedDate());
     }
 
     /**
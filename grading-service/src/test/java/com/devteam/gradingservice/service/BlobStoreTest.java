@@ -0,0 +1,114 @@
+package com.devteam.gradingservice.service;
+
+import com.devteam.gradingservice.repository.BlobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BlobStoreTest {
+
+    private static final String DIGEST = "ab".repeat(32);
+    private static final String OTHER_DIGEST = "cd".repeat(32);
+    private static final String THIRD_DIGEST = "ef".repeat(32);
+    private static final Instant LONG_AGO = Instant.now().minus(Duration.ofDays(1));
+
+    @TempDir
+    Path uploadDir;
+
+    private final BlobRepository blobRepository = mock(BlobRepository.class);
+    private BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new BlobStore(blobRepository, uploadDir.toString(), "blobs", 60, 60);
+        blobStore.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blobStore.shutdown();
+    }
+
+    @Test
+    void commitMovesNewContentIntoPlace() throws Exception {
+        Path temp = write(blobStore.newTempFile(), "content");
+
+        String path = blobStore.commit(temp, DIGEST, 7);
+
+        assertThat(path).isEqualTo("sha256/" + DIGEST);
+        assertThat(blobStore.resolve(path)).hasContent("content");
+        assertThat(temp).doesNotExist();
+        verify(blobRepository).acquire(eq(DIGEST), eq(7L), any());
+    }
+
+    @Test
+    void duplicateUploadReusesStoredBlob() throws Exception {
+        String path = blobStore.commit(write(blobStore.newTempFile(), "content"), DIGEST, 7);
+        Path blob = blobStore.resolve(path);
+        Files.setLastModifiedTime(blob, FileTime.from(LONG_AGO));
+
+        Path duplicate = write(blobStore.newTempFile(), "content");
+        String duplicatePath = blobStore.commit(duplicate, DIGEST, 7);
+
+        assertThat(duplicatePath).isEqualTo(path);
+        assertThat(duplicate).doesNotExist();
+        assertThat(Files.getLastModifiedTime(blob).toInstant()).isAfter(LONG_AGO.plusSeconds(60));
+        verify(blobRepository, times(2)).acquire(eq(DIGEST), eq(7L), any());
+    }
+
+    @Test
+    void collectionKeepsReferencedAndRecentBlobs() throws Exception {
+        Path referenced = stale(blobStore.resolve(blobStore.commit(write(blobStore.newTempFile(), "a"), DIGEST, 1)));
+        Path unreferenced = stale(blobStore.resolve(blobStore.commit(write(blobStore.newTempFile(), "b"), OTHER_DIGEST, 1)));
+        Path recent = blobStore.resolve(blobStore.commit(write(blobStore.newTempFile(), "c"), THIRD_DIGEST, 1));
+        Path abandonedTemp = stale(write(blobStore.newTempFile(), "partial"));
+        when(blobRepository.findExisting(anyCollection())).thenReturn(List.of(DIGEST));
+
+        blobStore.collect();
+
+        assertThat(referenced).exists();
+        assertThat(recent).exists();
+        assertThat(unreferenced).doesNotExist();
+        assertThat(abandonedTemp).doesNotExist();
+        verify(blobRepository).deleteUnreferenced(any());
+    }
+
+    @Test
+    void commitStoresContentAgainAfterCollection() throws Exception {
+        Path blob = stale(blobStore.resolve(blobStore.commit(write(blobStore.newTempFile(), "content"), DIGEST, 7)));
+        when(blobRepository.findExisting(anyCollection())).thenReturn(List.of());
+        blobStore.collect();
+        assertThat(blob).doesNotExist();
+
+        blobStore.commit(write(blobStore.newTempFile(), "content"), DIGEST, 7);
+
+        assertThat(blob).hasContent("content");
+    }
+
+    private static Path write(Path file, String content) throws Exception {
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static Path stale(Path file) throws Exception {
+        Files.setLastModifiedTime(file, FileTime.from(LONG_AGO));
+        return file;
+    }
+}
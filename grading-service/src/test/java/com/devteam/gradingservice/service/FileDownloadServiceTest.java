@@ -0,0 +1,223 @@
+package com.devteam.gradingservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDownloadServiceTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final String ETAG = "\"" + "ab".repeat(32) + "\"";
+    private static final Instant UPLOADED = Instant.parse("2024-03-01T10:15:30Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final FileDownloadService service = new FileDownloadService();
+    private FileDownload download;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("blob"), CONTENT, StandardCharsets.US_ASCII);
+        download = new FileDownload(file, ETAG, UPLOADED, "notes.pdf", "application/pdf");
+    }
+
+    @Test
+    void servesWholeFileWithValidators() throws Exception {
+        MockHttpServletResponse response = serve(request());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(UPLOADED.toEpochMilli());
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    void servesSuffixRange() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=-3"));
+
+        assertPartial(response, "bytes 7-9/10", "789");
+    }
+
+    @Test
+    void servesOpenEndedRange() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=4-"));
+
+        assertPartial(response, "bytes 4-9/10", "456789");
+    }
+
+    @Test
+    void clampsRangeEndToFileLength() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=8-100"));
+
+        assertPartial(response, "bytes 8-9/10", "89");
+    }
+
+    @Test
+    void servesSeveralRangesAsMultipart() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=0-1, 5-6"));
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        String body = response.getContentAsString();
+        assertThat(body).contains("Content-Range: bytes 0-1/10\r\n\r\n01");
+        assertThat(body).contains("Content-Range: bytes 5-6/10\r\n\r\n56");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void answersUnsatisfiableRangeWith416() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=20-30"));
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ignoresMalformedRange() throws Exception {
+        for (String range : new String[]{"items=0-1", "bytes=abc", "bytes=5-2", "bytes=3"}) {
+            MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, range));
+
+            assertThat(response.getStatus()).as(range).isEqualTo(200);
+            assertThat(response.getContentAsString()).as(range).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void ignoresMoreThanSixteenRanges() throws Exception {
+        String ranges = IntStream.range(0, 17).mapToObj(i -> "0-0").collect(Collectors.joining(","));
+
+        MockHttpServletResponse response = serve(request(HttpHeaders.RANGE, "bytes=" + ranges));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void honoursRangeWhenIfRangeMatchesStrongTag() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+        assertPartial(serve(request), "bytes 0-1/10", "01");
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeIsWeak() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + ETAG);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void ignoresRangeWhenFileTagIsWeak() throws Exception {
+        String weakTag = "W/\"a-18e\"";
+        download = new FileDownload(download.file(), weakTag, UPLOADED, "notes.pdf", "application/pdf");
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, weakTag);
+
+        assertThat(serve(request).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ignoresRangeWhenIfRangeTagIsStale() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"" + "cd".repeat(32) + "\"");
+
+        assertThat(serve(request).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void honoursRangeWhenIfRangeDateMatches() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, UPLOADED.toEpochMilli());
+
+        assertPartial(serve(request), "bytes 0-1/10", "01");
+    }
+
+    @Test
+    void answersMatchingIfNoneMatchWith304() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + ETAG));
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    void answersIfModifiedSinceWith304() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.IF_MODIFIED_SINCE, UPLOADED.toEpochMilli()));
+
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void servesFileModifiedSinceIfModifiedSince() throws Exception {
+        MockHttpServletResponse response = serve(request(HttpHeaders.IF_MODIFIED_SINCE, UPLOADED.minusSeconds(60).toEpochMilli()));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, UPLOADED.plusSeconds(60).toEpochMilli());
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void headRequestHasNoBody() throws Exception {
+        MockHttpServletRequest request = request(HttpHeaders.RANGE, "bytes=0-1");
+        request.setMethod("HEAD");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(2);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        service.serve(download, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/grading/lectures/files/1");
+    }
+
+    private static MockHttpServletRequest request(String header, Object value) {
+        MockHttpServletRequest request = request();
+        request.addHeader(header, value);
+        return request;
+    }
+
+    private static void assertPartial(MockHttpServletResponse response, String contentRange, String body) throws Exception {
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo(contentRange);
+        assertThat(response.getContentAsString()).isEqualTo(body);
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+    }
+}
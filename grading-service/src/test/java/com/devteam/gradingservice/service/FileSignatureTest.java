@@ -0,0 +1,72 @@
+package com.devteam.gradingservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSignatureTest {
+
+    private static final String PDF = "255044462d312e37";
+    private static final String OLE2 = "d0cf11e0a1b11ae1";
+    private static final String ZIP = "504b030414000600";
+    private static final String EMPTY_ZIP = "504b050600000000";
+    private static final String RAR = "526172211a070100";
+    private static final String PNG = "89504e470d0a1a0a";
+
+    @ParameterizedTest
+    @CsvSource({
+            PDF + ", .pdf, application/pdf",
+            OLE2 + ", .doc, application/msword",
+            OLE2 + ", .ppt, application/vnd.ms-powerpoint",
+            OLE2 + ", .xls, application/vnd.ms-excel",
+            ZIP + ", .zip, application/zip",
+            EMPTY_ZIP + ", .zip, application/zip",
+            ZIP + ", .docx, application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            ZIP + ", .pptx, application/vnd.openxmlformats-officedocument.presentationml.presentation",
+            ZIP + ", .xlsx, application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+            RAR + ", .rar, application/vnd.rar"
+    })
+    void acceptsContentMatchingTheExtension(String header, String extension, String contentType) {
+        Optional<FileSignature> signature = detect(header).filter(detected -> detected.allows(extension));
+
+        assertThat(signature).isPresent();
+        assertThat(signature.get().contentType(extension)).isEqualTo(contentType);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            ZIP + ", .pdf",
+            PDF + ", .docx",
+            OLE2 + ", .docx",
+            ZIP + ", .doc",
+            RAR + ", .zip",
+            PDF + ", .rar"
+    })
+    void rejectsContentOfAnotherFormat(String header, String extension) {
+        assertThat(detect(header).filter(detected -> detected.allows(extension))).isEmpty();
+    }
+
+    @Test
+    void rejectsUnknownContent() {
+        assertThat(detect(PNG)).isEmpty();
+        assertThat(detect("")).isEmpty();
+    }
+
+    @Test
+    void rejectsFilesShorterThanTheSignature() {
+        byte[] header = Arrays.copyOf(HexFormat.of().parseHex(OLE2), FileSignature.HEADER_LENGTH);
+
+        assertThat(FileSignature.detect(header, 4)).isEmpty();
+    }
+
+    private static Optional<FileSignature> detect(String hex) {
+        byte[] bytes = HexFormat.of().parseHex(hex);
+        return FileSignature.detect(Arrays.copyOf(bytes, FileSignature.HEADER_LENGTH), bytes.length);
+    }
+}
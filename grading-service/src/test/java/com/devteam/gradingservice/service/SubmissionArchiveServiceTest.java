@@ -0,0 +1,93 @@
+package com.devteam.gradingservice.service;
+
+import com.devteam.gradingservice.model.Assignment;
+import com.devteam.gradingservice.model.Submission;
+import com.devteam.gradingservice.repository.AssignmentRepository;
+import com.devteam.gradingservice.repository.SubmissionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SubmissionArchiveServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AssignmentRepository assignmentRepository = mock(AssignmentRepository.class);
+    private final SubmissionRepository submissionRepository = mock(SubmissionRepository.class);
+    private final FileStorageService fileStorageService = mock(FileStorageService.class);
+    private final SubmissionArchiveService service = new SubmissionArchiveService(
+            assignmentRepository, submissionRepository, fileStorageService);
+
+    @Test
+    void numbersDuplicateEntryNames() {
+        Assignment assignment = new Assignment();
+        assignment.setTitle("Essay");
+        when(assignmentRepository.findById("a-1")).thenReturn(Optional.of(assignment));
+        when(submissionRepository.findAllByAssignmentId("a-1")).thenReturn(List.of(
+                submission("s-1", "essay.pdf"), submission("s-2", "Essay.pdf"), submission("s-3", "essay.pdf")));
+        when(fileStorageService.prepareSubmissionDownload(anyString(), anyString(), any(), any()))
+                .thenReturn(new FileDownload(tempDir.resolve("blob"), "\"etag\"", Instant.EPOCH, "essay.pdf", "application/pdf"));
+
+        SubmissionArchive archive = service.prepareArchive("a-1");
+
+        assertThat(archive.entries()).extracting(SubmissionArchive.Entry::name).containsExactly(
+                "Doe_Jane_student-1/essay.pdf",
+                "Doe_Jane_student-1/Essay (2).pdf",
+                "Doe_Jane_student-1/essay (3).pdf");
+    }
+
+    @Test
+    void skipsFilesThatDisappearedAfterPreparing() throws Exception {
+        Path present = Files.writeString(tempDir.resolve("present"), "kept", StandardCharsets.UTF_8);
+        Path stored = Files.writeString(tempDir.resolve("stored"), "already compressed", StandardCharsets.UTF_8);
+        SubmissionArchive archive = new SubmissionArchive("Essay-submissions.zip", List.of(
+                new SubmissionArchive.Entry("a/present.txt", present, Instant.EPOCH, false),
+                new SubmissionArchive.Entry("b/missing.txt", tempDir.resolve("missing"), Instant.EPOCH, false),
+                new SubmissionArchive.Entry("c/stored.zip", stored, Instant.EPOCH, true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeArchive(archive, out);
+
+        List<String> names = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+                names.add(entry.getName());
+                contents.add(new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(names).containsExactly("a/present.txt", "c/stored.zip");
+        assertThat(contents).containsExactly("kept", "already compressed");
+    }
+
+    private static Submission submission(String id, String fileName) {
+        Submission submission = new Submission();
+        submission.setId(id);
+        submission.setFirstname("Jane");
+        submission.setLastname("Doe");
+        submission.setStudentId("student-1");
+        submission.setFileName(fileName);
+        submission.setFilePath(id);
+        submission.setSubmittedDate(LocalDateTime.of(2024, 1, 1, 12, 0));
+        return submission;
+    }
+}
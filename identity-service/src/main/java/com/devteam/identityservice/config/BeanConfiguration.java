@@ -1,10 +1,12 @@
 package com.devteam.identityservice.config;
 
+import com.devteam.identityservice.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 
@@ -12,8 +14,14 @@ import org.springframework.security.config.annotation.authentication.configurati
 public class BeanConfiguration {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password.bcrypt-strength:10}") final int strength,
+            @Value("${app.security.password.hashing-threads:0}") final int threads,
+            @Value("${app.security.password.hashing-queue-capacity:64}") final int queueCapacity,
+            @Value("${app.security.password.retry-after-seconds:1}") final long retryAfterSeconds,
+            final MeterRegistry meterRegistry) {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     };
 
     @Bean
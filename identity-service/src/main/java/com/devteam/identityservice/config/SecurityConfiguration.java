@@ -1,5 +1,7 @@
 package com.devteam.identityservice.config;
 
+import com.devteam.identityservice.model.Role;
+import com.devteam.identityservice.security.InternalApiKeyFilter;
 import com.devteam.identityservice.security.JwtFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +22,8 @@ public class SecurityConfiguration {
             "/api/v1/identity/auth/**",
             "/api/v1/identity/health",
             "/api/v1/identity/me/**",
+            "/api/v1/identity/.well-known/**",
+            "/actuator/health",
 
             "/api/v1/identity/v2/api-docs",
             "/api/v1/identity/v3/api-docs",
@@ -34,9 +38,11 @@ public class SecurityConfiguration {
     };
 
     private final JwtFilter jwtFilter;
+    private final InternalApiKeyFilter internalApiKeyFilter;
 
-    public SecurityConfiguration(JwtFilter jwtFilter) {
+    public SecurityConfiguration(JwtFilter jwtFilter, InternalApiKeyFilter internalApiKeyFilter) {
         this.jwtFilter = jwtFilter;
+        this.internalApiKeyFilter = internalApiKeyFilter;
     }
 
 //    "/api/v1/identity/health" || "/api/v1/identity/auth/**"
@@ -46,12 +52,15 @@ public class SecurityConfiguration {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers("/internal/**").hasRole(InternalApiKeyFilter.ROLE)
+                        .requestMatchers("/actuator/metrics/**").hasAnyRole(InternalApiKeyFilter.ROLE, Role.ADMIN.name())
                         .anyRequest()
                         .authenticated()
                 )
                 .sessionManagement(sess -> sess
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
+                .addFilterBefore(this.internalApiKeyFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(this.jwtFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -6,9 +6,11 @@ import com.devteam.identityservice.dto.response.AuthenticationResponseDTO;
 import com.devteam.identityservice.dto.request.RegistrationRequestDTO;
 import com.devteam.identityservice.service.AuthenticationService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,8 +32,22 @@ public class AuthenticationController {
             @Valid
             @RequestBody
             final AuthenticationRequestDTO requestDTO,
+            final HttpServletRequest request,
             final HttpServletResponse response) {
-        return ResponseEntity.ok(this.authenticationService.login(requestDTO, response));
+        return ResponseEntity.ok(this.authenticationService.login(requestDTO, clientIp(request), response));
+    }
+
+    /**
+     * Requests arrive through the gateway, which appends the address it saw to X-Forwarded-For,
+     * so the last entry is the one a client cannot forge
+     */
+    private String clientIp(final HttpServletRequest request) {
+        final String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            final String[] hops = forwardedFor.split(",");
+            return hops[hops.length - 1].trim();
+        }
+        return request.getRemoteAddr();
     }
 
     @PostMapping("/register")
@@ -54,8 +70,11 @@ public class AuthenticationController {
 
     @PostMapping("/logout")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void logout(final HttpServletResponse response) {
-        this.authenticationService.logout(response);
+    public void logout(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false)
+            final String authorizationHeader,
+            final HttpServletResponse response) {
+        this.authenticationService.logout(authorizationHeader, response);
     }
 
 }
@@ -0,0 +1,31 @@
+package com.devteam.identityservice.controller;
+
+import com.devteam.identityservice.dto.response.RevocationFeedResponseDTO;
+import com.devteam.identityservice.service.RevocationService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Service-to-service endpoints. /internal/** is not routed by the API Gateway and requires the
+ * shared key checked by {@link com.devteam.identityservice.security.InternalApiKeyFilter}.
+ */
+@RestController
+@RequestMapping("/internal/v1/identity")
+@RequiredArgsConstructor
+@Tag(name = "Internal", description = "Identity - Service to service API")
+public class InternalRevocationController {
+
+    private final RevocationService revocationService;
+
+    @GetMapping("/revocations")
+    public ResponseEntity<RevocationFeedResponseDTO> getRevocations(
+            @RequestParam(name = "since", defaultValue = "0") final long since,
+            @RequestParam(name = "limit", defaultValue = "1000") final int limit) {
+        return ResponseEntity.ok(this.revocationService.getRevocationsSince(since, limit));
+    }
+}
@@ -0,0 +1,36 @@
+package com.devteam.identityservice.controller;
+
+import com.devteam.identityservice.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/identity/.well-known")
+@Tag(name = "JWKS", description = "Identity - Public keys for JWT verification")
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(
+            JwtKeyRing keyRing,
+            @Value("${app.security.jwt.jwks-max-age-seconds:300}") long maxAgeSeconds) {
+        this.keyRing = keyRing;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwkSet() {
+        return ResponseEntity.ok()
+                .cacheControl(this.cacheControl)
+                .body(this.keyRing.getJwkSet());
+    }
+}
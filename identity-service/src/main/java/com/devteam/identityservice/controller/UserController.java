@@ -1,6 +1,8 @@
 package com.devteam.identityservice.controller;
 
 import com.devteam.identityservice.dto.response.UserResponseDTO;
+import com.devteam.identityservice.exception.BusinessException;
+import com.devteam.identityservice.exception.ErrorCode;
 import com.devteam.identityservice.model.User;
 import com.devteam.identityservice.dto.request.PasswordChangeRequestDTO;
 import com.devteam.identityservice.dto.request.ProfileUpdateRequestDTO;
@@ -71,7 +73,14 @@ public class UserController {
         this.userService.deleteAccount(getUserId(principal));
     }
 
+    /**
+     * /me/** is public, so a request the filter left unauthenticated (no token, or a deactivated
+     * account outside /reactivate) gets here without a principal
+     */
     private String getUserId(Authentication principal) {
+        if (principal == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
         return ((User) principal.getPrincipal()).getId();
     }
 
@@ -0,0 +1,64 @@
+package com.devteam.identityservice.controller;
+
+import com.devteam.identityservice.dto.request.UserBatchRequestDTO;
+import com.devteam.identityservice.dto.response.UserImportResponseDTO;
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.model.User;
+import com.devteam.identityservice.service.UserImportService;
+import com.devteam.identityservice.service.UserServiceInterface;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/identity/users")
+@RequiredArgsConstructor
+@Tag(name = "User directory", description = "Identity - Lookup of other users")
+public class UserDirectoryController {
+
+    private final UserServiceInterface userService;
+    private final UserImportService userImportService;
+
+    /**
+     * Resolve up to 500 user ids in one query. Unknown ids are left out of the response.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserSummaryResponseDTO>> getUsers(
+            @RequestBody @Valid final UserBatchRequestDTO request) {
+        return ResponseEntity.ok(this.userService.getUsers(request.getIds()));
+    }
+
+    /**
+     * Type-ahead search by partial first name, last name or email
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSummaryResponseDTO>> searchUsers(
+            @RequestParam("q") final String query,
+            @RequestParam(defaultValue = "0") final int page,
+            @RequestParam(defaultValue = "20") final int size,
+            final Authentication principal) {
+        return ResponseEntity.ok(this.userService.searchUsers(query, page, size, ((User) principal.getPrincipal()).getRole()));
+    }
+
+    /**
+     * Register a roster streamed as text/csv (with a header row) or application/x-ndjson.
+     * Invalid rows are reported in the response and do not stop the import.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<UserImportResponseDTO> importUsers(
+            final HttpServletRequest request,
+            final Authentication principal) throws IOException {
+        return ResponseEntity.ok(this.userImportService.importUsers(
+                request.getInputStream(),
+                request.getContentType(),
+                ((User) principal.getPrincipal()).getRole()));
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.devteam.identityservice.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserBatchRequestDTO {
+
+    @NotEmpty(message = "VALIDATION.USER_BATCH.IDS.NOT_EMPTY")
+    @Size(
+            max = 500,
+            message = "VALIDATION.USER_BATCH.IDS.SIZE"
+    )
+    @Schema(example = "[\"3f1c2a9e-7d4b-4c1a-9a57-2f5b8d0e6c11\"]")
+    private List<String> ids;
+
+}
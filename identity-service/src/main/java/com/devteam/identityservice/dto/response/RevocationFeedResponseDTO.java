@@ -0,0 +1,30 @@
+package com.devteam.identityservice.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevocationFeedResponseDTO {
+
+    @JsonProperty("revocations")
+    private List<RevocationResponseDTO> revocations;
+
+    /**
+     * Pass back as "since" to receive only newer revocations
+     */
+    @JsonProperty("cursor")
+    private long cursor;
+
+    /**
+     * True when the page was cut at the limit and more revocations follow the cursor
+     */
+    @JsonProperty("has_more")
+    private boolean hasMore;
+
+}
@@ -0,0 +1,26 @@
+package com.devteam.identityservice.dto.response;
+
+import com.devteam.identityservice.model.RevocationType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevocationResponseDTO {
+
+    @JsonProperty("type")
+    private RevocationType type;
+
+    @JsonProperty("subject")
+    private String subject;
+
+    @JsonProperty("revokedAt")
+    private long revokedAt;
+
+    @JsonProperty("expiresAt")
+    private long expiresAt;
+
+}
@@ -0,0 +1,40 @@
+package com.devteam.identityservice.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class UserImportResponseDTO {
+
+    private long totalRows;
+    private long imported;
+    private long failed;
+
+    /**
+     * Details of the first failed rows; {@link #failed} holds the full count
+     */
+    private List<RowError> errors;
+
+    /**
+     * True when the file exceeded the row limit; rows past it were not read, and the last error says where it stopped
+     */
+    private boolean truncated;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class RowError {
+        private long line;
+        private String email;
+        private String code;
+        private String message;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.devteam.identityservice.dto.response;
+
+import com.devteam.identityservice.model.Role;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+/**
+ * Public fields of a user, as returned by the batch lookup used by other services
+ */
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummaryResponseDTO {
+
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("firstname")
+    private String firstname;
+
+    @JsonProperty("lastname")
+    private String lastname;
+
+    @JsonProperty("email")
+    private String email;
+
+    @JsonProperty("role")
+    private Role role;
+
+}
@@ -3,6 +3,7 @@ package com.devteam.identityservice.exception;
 import com.devteam.identityservice.dto.response.ErrorResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -39,6 +40,20 @@ public class ApplicationExceptionHandler {
 
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponseDTO> handleException(final TooManyRequestsException exception) {
+        final ErrorResponseDTO body = ErrorResponseDTO.builder()
+                .code(exception.getErrorCode().getCode())
+                .message(exception.getMessage())
+                .build();
+
+        log.info("Request rejected: {}", exception.getMessage());
+
+        return ResponseEntity.status(exception.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     @ExceptionHandler(DisabledException.class)
     public ResponseEntity<ErrorResponseDTO> handleException(final DisabledException exception) {
         final ErrorResponseDTO body = ErrorResponseDTO.builder()
@@ -22,6 +22,14 @@ public enum ErrorCode {
     ERROR_USER_DISABLE("ERROR_USER_DISABLE", "User is disable", HttpStatus.UNAUTHORIZED),
     BAD_CREDENTIALS("BAD_CREDENTIALS", "Email and / or password is incorrect", HttpStatus.UNAUTHORIZED),
     USERNAME_NOT_FOUND("USERNAME_NOT_FOUND", "username not found", HttpStatus.NOT_FOUND),
+    INVALID_IMPORT_FILE("INVALID_IMPORT_FILE", "Invalid import file: %s", HttpStatus.BAD_REQUEST),
+    UNSUPPORTED_IMPORT_FORMAT("UNSUPPORTED_IMPORT_FORMAT", "Import expects text/csv or application/x-ndjson", HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    USER_SEARCH_NOT_ALLOWED("USER_SEARCH_NOT_ALLOWED", "Only teachers and admins can search users", HttpStatus.FORBIDDEN),
+    IMPORT_NOT_ALLOWED("IMPORT_NOT_ALLOWED", "Only teachers and admins can import users", HttpStatus.FORBIDDEN),
+    DUPLICATE_EMAIL_IN_FILE("DUPLICATE_EMAIL_IN_FILE", "Email appears more than once in the file", HttpStatus.BAD_REQUEST),
+    INVALID_ROW("INVALID_ROW", "%s", HttpStatus.BAD_REQUEST),
+    TOO_MANY_LOGIN_ATTEMPTS("TOO_MANY_LOGIN_ATTEMPTS", "Too many login attempts, please retry later", HttpStatus.TOO_MANY_REQUESTS),
+    SERVER_BUSY("SERVER_BUSY", "Too many requests, please retry later", HttpStatus.TOO_MANY_REQUESTS),
     INTERNAL_EXCEPTION("INTERNAL_EXCEPTION", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
     TOKEN_EXPIRED("TOKEN_EXPIRED", "Token has expired", HttpStatus.UNAUTHORIZED),
     INVALID_TOKEN("INVALID_TOKEN", "Invalid token", HttpStatus.UNAUTHORIZED),
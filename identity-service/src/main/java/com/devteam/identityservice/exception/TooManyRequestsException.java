@@ -0,0 +1,17 @@
+package com.devteam.identityservice.exception;
+
+import lombok.Getter;
+
+/**
+ * Business exception answered with 429 and a Retry-After header
+ */
+@Getter
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(final ErrorCode errorCode, final long retryAfterSeconds, final Object... args) {
+        super(errorCode, args);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,50 @@
+package com.devteam.identityservice.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Append-only revocation log published to the gateway.
+ * The increasing id doubles as the cursor for incremental polling. Ids are assigned at insert rather
+ * than at commit, so the feed also re-sends recent entries at or below the cursor.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "REVOCATIONS", indexes = {
+        @Index(name = "IDX_REVOCATIONS_EXPIRES_AT", columnList = "EXPIRES_AT"),
+        @Index(name = "IDX_REVOCATIONS_REVOKED_AT", columnList = "REVOKED_AT"),
+        @Index(name = "IDX_REVOCATIONS_SUBJECT", columnList = "SUBJECT")
+})
+public class Revocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TYPE", nullable = false)
+    private RevocationType type;
+
+    /**
+     * User id for USER revocations, token id (jti) for TOKEN revocations
+     */
+    @Column(name = "SUBJECT", nullable = false)
+    private String subject;
+
+    @Column(name = "REVOKED_AT", nullable = false)
+    private Instant revokedAt;
+
+    /**
+     * After this instant every affected token has expired and the entry can be ignored
+     */
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private Instant expiresAt;
+
+}
@@ -0,0 +1,14 @@
+package com.devteam.identityservice.model;
+
+public enum RevocationType {
+    /**
+     * Every token of the user issued up to the revocation time
+     */
+    USER
+    ,
+    /**
+     * A single token, identified by its jti claim
+     */
+    TOKEN
+    ;
+}
@@ -0,0 +1,15 @@
+package com.devteam.identityservice.model;
+
+/**
+ * Minimal view of a user's account state, used to catch deactivated accounts and role changes
+ * without loading the whole {@link User}.
+ */
+public record UserStatus(boolean enabled, boolean active, Role role) {
+
+    /**
+     * Whether the account may still authenticate; deactivation clears both flags
+     */
+    public boolean canAuthenticate() {
+        return enabled && active;
+    }
+}
@@ -0,0 +1,20 @@
+package com.devteam.identityservice.repository;
+
+import com.devteam.identityservice.model.Revocation;
+import com.devteam.identityservice.model.RevocationType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevocationRepository extends JpaRepository<Revocation, Long> {
+
+    List<Revocation> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long id, Instant now, Limit limit);
+
+    List<Revocation> findByIdLessThanEqualAndRevokedAtAfterAndExpiresAtAfterOrderByIdAsc(Long id, Instant revokedAfter, Instant now);
+
+    boolean existsByTypeAndSubjectAndExpiresAtAfter(RevocationType type, String subject, Instant now);
+
+    boolean existsByTypeAndSubjectAndRevokedAtGreaterThanEqual(RevocationType type, String subject, Instant issuedAt);
+}
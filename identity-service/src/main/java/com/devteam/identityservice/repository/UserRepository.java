@@ -1,7 +1,14 @@
 package com.devteam.identityservice.repository;
 
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
 import com.devteam.identityservice.model.User;
+import com.devteam.identityservice.model.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
@@ -9,4 +16,16 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmailIgnoreCase(String email);
 
     boolean existsByEmailIgnoreCase(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.devteam.identityservice.model.UserStatus(u.enabled, u.active, u.role) FROM User u WHERE u.id = :userId")
+    Optional<UserStatus> findStatusById(@Param("userId") String userId);
+
+    @Query("SELECT new com.devteam.identityservice.dto.response.UserSummaryResponseDTO(u.id, u.firstname, u.lastname, u.email, u.role) FROM User u WHERE u.active = true AND u.enabled = true")
+    List<UserSummaryResponseDTO> findActiveSummaries();
+
+    @Query("SELECT LOWER(u.email) FROM User u WHERE LOWER(u.email) IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> lowerCaseEmails);
+
+    @Query("SELECT new com.devteam.identityservice.dto.response.UserSummaryResponseDTO(u.id, u.firstname, u.lastname, u.email, u.role) FROM User u WHERE u.id IN :userIds")
+    List<UserSummaryResponseDTO> findSummariesByIdIn(@Param("userIds") Collection<String> userIds);
+}
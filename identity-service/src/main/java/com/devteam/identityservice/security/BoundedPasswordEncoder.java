@@ -0,0 +1,109 @@
+package com.devteam.identityservice.security;
+
+import com.devteam.identityservice.exception.ErrorCode;
+import com.devteam.identityservice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder that runs every hash on a dedicated pool sized to the CPU count.
+ *
+ * A burst of logins can then only use as much CPU as the pool has threads, instead of
+ * occupying every Tomcat thread. When the queue is full the caller fails fast with 429.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+
+    public BoundedPasswordEncoder(
+            final int strength,
+            final int threads,
+            final int queueCapacity,
+            final long retryAfterSeconds,
+            final MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("identity.password.hash")
+                .description("Time spent hashing or verifying a password, excluding queue wait")
+                .register(meterRegistry);
+        Gauge.builder("identity.password.hash.queue", this.executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("identity.password.hash.active", this.executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> this.delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return submit(() -> this.delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Rehash on login whenever the stored cost differs from the configured one, in both directions
+     */
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        final Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != this.strength;
+    }
+
+    private <T> T submit(final Callable<T> task) {
+        try {
+            return this.executor.submit(() -> this.hashTimer.recordCallable(task)).get();
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException(ErrorCode.SERVER_BUSY, this.retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.devteam.identityservice.security;
+
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Authenticates other services on /internal/** and /actuator/metrics/** with a shared key sent in
+ * the {@value #HEADER} header. Without a configured key no request is authenticated here.
+ */
+@Component
+public class InternalApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Internal-Api-Key";
+    public static final String ROLE = "SERVICE";
+
+    private static final List<String> INTERNAL_URLS = List.of("/internal/", "/actuator/metrics");
+
+    private final byte[] apiKey;
+
+    public InternalApiKeyFilter(@Value("${app.security.internal-api-key:}") String apiKey) {
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@Nonnull HttpServletRequest request) {
+        final String path = request.getServletPath();
+        return INTERNAL_URLS.stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull
+            HttpServletRequest request,
+            @Nonnull
+            HttpServletResponse response,
+            @Nonnull
+            FilterChain filterChain) throws ServletException, IOException {
+
+        final String presented = request.getHeader(HEADER);
+        if (this.apiKey.length > 0 && presented != null
+                && MessageDigest.isEqual(this.apiKey, presented.getBytes(StandardCharsets.UTF_8))) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "internal-service", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,8 +1,14 @@
 package com.devteam.identityservice.security;
 
 import com.devteam.identityservice.exception.BusinessException;
+import com.devteam.identityservice.model.User;
+import com.devteam.identityservice.model.UserStatus;
 import com.devteam.identityservice.service.JwtService;
+import com.devteam.identityservice.service.RevocationService;
+import com.devteam.identityservice.service.UserMapper;
+import com.devteam.identityservice.service.UserStatusCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,24 +29,50 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserMapper userMapper;
+    private final UserStatusCache userStatusCache;
+    private final RevocationService revocationService;
+
+    /**
+     * Build the principal from the token's signed claims instead of loading the user on every request
+     */
+    private final boolean claimsOnlyAuthentication;
+
+    /**
+     * The one route a deactivated account may still call, so that it can be turned back on
+     */
+    private static final String REACTIVATE_URL = "/api/v1/identity/me/reactivate";
 
     private static final List<String> PUBLIC_URLS = List.of(
             "/api/v1/identity/auth",
             "/api/v1/identity/auth/register",
             "/api/v1/identity/auth/login",
-            "/api/v1/identity/health"
+            "/api/v1/identity/health",
+            "/api/v1/identity/.well-known",
+            "/internal/"
     );
 
     @Autowired
-    public JwtFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            UserMapper userMapper,
+            UserStatusCache userStatusCache,
+            RevocationService revocationService,
+            @Value("${app.security.jwt.claims-only-authentication:false}") boolean claimsOnlyAuthentication) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.userMapper = userMapper;
+        this.userStatusCache = userStatusCache;
+        this.revocationService = revocationService;
+        this.claimsOnlyAuthentication = claimsOnlyAuthentication;
     }
 
     @Override
@@ -68,12 +101,15 @@ public class JwtFilter extends OncePerRequestFilter {
         final String jwt = authHeader.substring(7);
 
         try {
-            final String username = this.jwtService.extractUsername(jwt);
+            final Claims claims = this.jwtService.validateToken(jwt);
+            final String username = claims.getSubject();
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                final UserDetails userDetails = loadUserDetails(claims, username);
 
-                if (this.jwtService.isTokenValid(jwt, userDetails.getUsername())) {
+                if (userDetails != null && (userDetails.isEnabled() || REACTIVATE_URL.equals(path))
+                        && this.jwtService.isTokenValid(claims, userDetails.getUsername())
+                        && !isRevoked(claims, path)) {
                     final UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -101,4 +137,41 @@ public class JwtFilter extends OncePerRequestFilter {
             response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
         }
     }
+
+    /**
+     * Same revocations the gateway enforces, checked here because the identity route is not behind
+     * the gateway's JWT filter. Deactivation revokes every token of the user, so reactivation only
+     * honours revocations of the token itself.
+     */
+    private boolean isRevoked(Claims claims, String path) {
+        if (this.revocationService.isTokenRevoked(claims.getId())) {
+            return true;
+        }
+        final Object userId = claims.get("userId");
+        return !REACTIVATE_URL.equals(path)
+                && userId != null
+                && this.revocationService.isUserRevoked(userId.toString(), claims.getIssuedAt());
+    }
+
+    private UserDetails loadUserDetails(Claims claims, String username) {
+        // Refresh tokens and tokens issued before claims-only mode carry no userId
+        if (!this.claimsOnlyAuthentication || claims.get("userId") == null) {
+            return this.userDetailsService.loadUserByUsername(username);
+        }
+
+        final User user = this.userMapper.toUser(claims);
+        if (!this.userStatusCache.isEnabled()) {
+            return user;
+        }
+
+        // A deleted account stays unauthenticated even though its token is still valid
+        final Optional<UserStatus> status = this.userStatusCache.getStatus(user.getId());
+        if (status.isEmpty()) {
+            return null;
+        }
+        user.setEnabled(status.get().canAuthenticate());
+        user.setActive(status.get().active());
+        user.setRole(status.get().role());
+        return user;
+    }
 }
@@ -0,0 +1,42 @@
+package com.devteam.identityservice.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Signing keys used for JWTs, bound from app.security.jwt.*
+ *
+ * Every configured key can verify tokens, but only the key named by active-kid signs new ones.
+ * To rotate, add the new key next to the old one, then switch active-kid once the gateway knows it.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.security.jwt")
+public class JwtKeyProperties {
+
+    private String activeKid;
+
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String kid;
+
+        private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+
+        /**
+         * PEM path of the private key, only needed for keys that sign
+         */
+        private String privateKey;
+
+        private String publicKey;
+    }
+}
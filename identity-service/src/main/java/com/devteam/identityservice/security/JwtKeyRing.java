@@ -0,0 +1,94 @@
+package com.devteam.identityservice.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the active signing key and every key that may still verify tokens, selected by the "kid" header.
+ */
+@Slf4j
+@Getter
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final String activeKid;
+    private final SigningAlgorithm activeAlgorithm;
+    private final PrivateKey signingKey;
+    private final Map<String, JwtKeyProperties.Key> keyDefinitions = new HashMap<>();
+    private final Map<String, PublicKey> verificationKeys = new HashMap<>();
+
+    /**
+     * JWK Set of every verification key, built once since keys only change on restart
+     */
+    private final Map<String, Object> jwkSet;
+
+    public JwtKeyRing(JwtKeyProperties properties) throws Exception {
+        PrivateKey activePrivateKey = null;
+        SigningAlgorithm activeKeyAlgorithm = null;
+
+        for (JwtKeyProperties.Key key : properties.getKeys()) {
+            final String keyFactoryAlgorithm = key.getAlgorithm().getKeyFactoryAlgorithm();
+            this.keyDefinitions.put(key.getKid(), key);
+            this.verificationKeys.put(key.getKid(), KeyUtils.loadPublicKey(key.getPublicKey(), keyFactoryAlgorithm));
+
+            if (key.getKid().equals(properties.getActiveKid())) {
+                if (key.getPrivateKey() == null) {
+                    throw new IllegalStateException("Active JWT key has no private key (kid: " + key.getKid() + ")");
+                }
+                activePrivateKey = KeyUtils.loadPrivateKey(key.getPrivateKey(), keyFactoryAlgorithm);
+                activeKeyAlgorithm = key.getAlgorithm();
+            }
+        }
+
+        if (activePrivateKey == null) {
+            throw new IllegalStateException("No JWT key configured for active kid: " + properties.getActiveKid());
+        }
+
+        this.activeKid = properties.getActiveKid();
+        this.activeAlgorithm = activeKeyAlgorithm;
+        this.signingKey = activePrivateKey;
+        this.jwkSet = buildJwkSet();
+        log.info("Signing JWTs with kid {} ({}), {} verification key(s) loaded",
+                this.activeKid, this.activeAlgorithm, this.verificationKeys.size());
+    }
+
+    private Map<String, Object> buildJwkSet() {
+        final List<PublicJwk<PublicKey>> jwks = new ArrayList<>();
+        this.verificationKeys.forEach((kid, publicKey) -> jwks.add(Jwks.builder()
+                .key(publicKey)
+                .id(kid)
+                .algorithm(this.keyDefinitions.get(kid).getAlgorithm().getJwsName())
+                .publicKeyUse("sig")
+                .build()));
+        return Map.of("keys", List.copyOf(jwks));
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        // Tokens issued before kid headers were introduced are signed with the active key
+        final String kid = header.getKeyId() != null ? header.getKeyId() : this.activeKid;
+        final PublicKey key = this.verificationKeys.get(kid);
+
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + kid);
+        }
+        if (!this.keyDefinitions.get(kid).getAlgorithm().getJwsName().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("Unexpected JWT algorithm " + header.getAlgorithm() + " for key id: " + kid);
+        }
+        return key;
+    }
+}
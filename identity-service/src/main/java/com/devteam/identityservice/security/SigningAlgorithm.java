@@ -0,0 +1,30 @@
+package com.devteam.identityservice.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+
+/**
+ * JWS algorithms supported for signing access and refresh tokens.
+ * ES256 and ED25519 produce smaller tokens than RS256 (a 64-byte signature instead of 256), but on
+ * JDK 17 RS256 verifies several times faster, which matters more on the gateway. See JwtSigningBenchmark.
+ */
+@Getter
+public enum SigningAlgorithm {
+
+    RS256("RSA", Jwts.SIG.RS256),
+    ES256("EC", Jwts.SIG.ES256),
+    ED25519("Ed25519", Jwts.SIG.EdDSA);
+
+    private final String keyFactoryAlgorithm;
+    private final SignatureAlgorithm signatureAlgorithm;
+
+    SigningAlgorithm(final String keyFactoryAlgorithm, final SignatureAlgorithm signatureAlgorithm) {
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+        this.signatureAlgorithm = signatureAlgorithm;
+    }
+
+    public String getJwsName() {
+        return this.signatureAlgorithm.getId();
+    }
+}
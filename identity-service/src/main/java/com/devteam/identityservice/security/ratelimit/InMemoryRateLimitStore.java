@@ -0,0 +1,111 @@
+package com.devteam.identityservice.security.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sliding-window counters kept in memory and split into lock stripes.
+ *
+ * Each key keeps the counts of the current and previous fixed window; the sliding count is the
+ * current count plus the previous count weighted by how much of it still overlaps the trailing
+ * window. Keys hash to one of the stripes so unrelated logins never contend on the same lock,
+ * and stale counters are dropped from a stripe once it grows past its sweep threshold.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 64;
+    private static final int SWEEP_THRESHOLD = 1024;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public InMemoryRateLimitStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public long tryAcquire(final String key, final int limit, final long windowMillis, final long nowMillis) {
+        final Stripe stripe = this.stripes[Math.floorMod(key.hashCode() * 0x9E3779B9, STRIPES)];
+        stripe.lock.lock();
+        try {
+            if (stripe.counters.size() >= stripe.sweepAt) {
+                stripe.sweep(nowMillis);
+            }
+            final Counter counter = stripe.counters.computeIfAbsent(key, k -> new Counter(windowMillis, nowMillis));
+            return counter.tryAcquire(limit, nowMillis);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Counter> counters = new HashMap<>();
+        private int sweepAt = SWEEP_THRESHOLD;
+
+        private void sweep(final long nowMillis) {
+            final Iterator<Counter> iterator = this.counters.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isIdle(nowMillis)) {
+                    iterator.remove();
+                }
+            }
+            this.sweepAt = Math.max(SWEEP_THRESHOLD, this.counters.size() * 2);
+        }
+    }
+
+    private static final class Counter {
+
+        private final long windowMillis;
+        private long windowStart;
+        private int previousCount;
+        private int currentCount;
+
+        private Counter(final long windowMillis, final long nowMillis) {
+            this.windowMillis = windowMillis;
+            this.windowStart = nowMillis - nowMillis % windowMillis;
+        }
+
+        private long tryAcquire(final int limit, final long nowMillis) {
+            roll(nowMillis);
+
+            final long elapsed = nowMillis - this.windowStart;
+            final double previousWeight = (double) (this.windowMillis - elapsed) / this.windowMillis;
+            if (this.previousCount * previousWeight + this.currentCount < limit) {
+                this.currentCount++;
+                return 0;
+            }
+
+            if (this.currentCount >= limit) {
+                // Only the next window can free capacity
+                return this.windowMillis - elapsed;
+            }
+            // Wait until enough of the previous window has slid out
+            final double excess = this.previousCount * previousWeight + this.currentCount - limit + 1;
+            return Math.max(1, (long) Math.ceil(excess * this.windowMillis / this.previousCount));
+        }
+
+        private void roll(final long nowMillis) {
+            final long windows = (nowMillis - this.windowStart) / this.windowMillis;
+            if (windows == 1) {
+                this.previousCount = this.currentCount;
+                this.currentCount = 0;
+            } else if (windows > 1) {
+                this.previousCount = 0;
+                this.currentCount = 0;
+            }
+            this.windowStart += windows * this.windowMillis;
+        }
+
+        private boolean isIdle(final long nowMillis) {
+            return nowMillis - this.windowStart >= 2 * this.windowMillis;
+        }
+    }
+}
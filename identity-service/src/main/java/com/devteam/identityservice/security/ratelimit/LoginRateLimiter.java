@@ -0,0 +1,64 @@
+package com.devteam.identityservice.security.ratelimit;
+
+import com.devteam.identityservice.exception.ErrorCode;
+import com.devteam.identityservice.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login attempts per email and per client IP before any password is checked,
+ * so brute-force or misbehaving clients cannot keep the BCrypt pool busy.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimitStore store;
+    private final boolean enabled;
+    private final int emailLimit;
+    private final int ipLimit;
+    private final long windowMillis;
+
+    public LoginRateLimiter(
+            final RateLimitStore store,
+            @Value("${app.security.login-rate-limit.enabled:true}") final boolean enabled,
+            @Value("${app.security.login-rate-limit.per-email:10}") final int emailLimit,
+            @Value("${app.security.login-rate-limit.per-ip:50}") final int ipLimit,
+            @Value("${app.security.login-rate-limit.window-seconds:60}") final long windowSeconds) {
+        this.store = store;
+        this.enabled = enabled;
+        this.emailLimit = emailLimit;
+        this.ipLimit = ipLimit;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+    }
+
+    /**
+     * Count one login attempt, throwing {@link TooManyRequestsException} if either the email
+     * or the client IP has used up its attempts in the trailing window
+     */
+    public void checkLoginAttempt(final String email, final String clientIp) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        if (clientIp != null) {
+            reject(this.store.tryAcquire("ip:" + clientIp, this.ipLimit, this.windowMillis, now), "ip", clientIp);
+        }
+        if (email != null) {
+            final String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+            reject(this.store.tryAcquire("email:" + normalizedEmail, this.emailLimit, this.windowMillis, now), "email", normalizedEmail);
+        }
+    }
+
+    private void reject(final long retryAfterMillis, final String kind, final String value) {
+        if (retryAfterMillis > 0) {
+            log.info("Login throttled for {} {}", kind, value);
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999)));
+        }
+    }
+}
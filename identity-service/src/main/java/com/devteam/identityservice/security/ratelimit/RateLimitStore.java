@@ -0,0 +1,17 @@
+package com.devteam.identityservice.security.ratelimit;
+
+/**
+ * Backend holding the sliding-window counters used by {@link LoginRateLimiter}.
+ *
+ * The in-memory implementation only limits a single instance. A shared backend (Redis, database)
+ * can be plugged in for multi-instance deployments by registering another bean of this type.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Record one hit for the key if the estimated number of hits in the trailing window is still
+     * below the limit. Returns 0 when the hit was accepted, otherwise the number of milliseconds
+     * after which a retry may succeed.
+     */
+    long tryAcquire(String key, int limit, long windowMillis, long nowMillis);
+}
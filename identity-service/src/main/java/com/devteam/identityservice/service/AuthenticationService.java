@@ -8,6 +8,8 @@ import com.devteam.identityservice.exception.ErrorCode;
 import com.devteam.identityservice.model.Role;
 import com.devteam.identityservice.model.User;
 import com.devteam.identityservice.repository.UserRepository;
+import com.devteam.identityservice.security.ratelimit.LoginRateLimiter;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,9 @@ public class AuthenticationService implements AuthenticationServiceInterface{
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final RevocationService revocationService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final UserSearchIndex userSearchIndex;
 
     @Value("${cookie.secure:false}")
     private boolean cookieSecure;
@@ -35,15 +40,19 @@ public class AuthenticationService implements AuthenticationServiceInterface{
     private String cookieSameSite;
 
     @Autowired
-    public AuthenticationService(AuthenticationManager authenticationManager, JwtService jwtService, UserRepository userRepository, UserMapper userMapper) {
+    public AuthenticationService(AuthenticationManager authenticationManager, JwtService jwtService, UserRepository userRepository, UserMapper userMapper, RevocationService revocationService, LoginRateLimiter loginRateLimiter, UserSearchIndex userSearchIndex) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.revocationService = revocationService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.userSearchIndex = userSearchIndex;
     }
 
     @Override
-    public AuthenticationResponseDTO login(AuthenticationRequestDTO requestDTO, HttpServletResponse response) {
+    public AuthenticationResponseDTO login(AuthenticationRequestDTO requestDTO, String clientIp, HttpServletResponse response) {
+        this.loginRateLimiter.checkLoginAttempt(requestDTO.getEmail(), clientIp);
 
         final Authentication authentication = this.authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(requestDTO.getEmail(), requestDTO.getPassword())
@@ -82,6 +91,7 @@ public class AuthenticationService implements AuthenticationServiceInterface{
         final User user = this.userMapper.toUser(requestDTO);
         log.debug("Saving user {}", user);
         this.userRepository.save(user);
+        this.userSearchIndex.index(this.userMapper.toUserSummary(user));
     }
 
     @Override
@@ -122,7 +132,9 @@ public class AuthenticationService implements AuthenticationServiceInterface{
     }
 
     @Override
-    public void logout(HttpServletResponse response) {
+    public void logout(String authorizationHeader, HttpServletResponse response) {
+        revokeAccessToken(authorizationHeader);
+
         ResponseCookie cookie = ResponseCookie.from("refreshToken", "")
             .httpOnly(true)
             .secure(cookieSecure)
@@ -135,4 +147,20 @@ public class AuthenticationService implements AuthenticationServiceInterface{
         log.info("User logged out successfully, refresh token cookie cleared");
     }
 
+    private void revokeAccessToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return;
+        }
+
+        try {
+            final Claims claims = this.jwtService.validateToken(authorizationHeader.substring(7));
+            if (claims.getId() != null) {
+                this.revocationService.revokeToken(claims.getId(), claims.getExpiration().toInstant());
+            }
+        } catch (BusinessException e) {
+            // An expired or invalid token is already unusable
+            log.debug("Access token not revoked on logout: {}", e.getMessage());
+        }
+    }
+
 }
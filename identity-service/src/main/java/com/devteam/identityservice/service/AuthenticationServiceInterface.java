@@ -7,12 +7,12 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public interface AuthenticationServiceInterface {
 
-    AuthenticationResponseDTO login(AuthenticationRequestDTO requestDTO, HttpServletResponse response);
+    AuthenticationResponseDTO login(AuthenticationRequestDTO requestDTO, String clientIp, HttpServletResponse response);
 
     void register(RegistrationRequestDTO requestDTO);
 
     AuthenticationResponseDTO refreshToken(String refreshToken, HttpServletResponse response);
 
-    void logout(HttpServletResponse response);
+    void logout(String authorizationHeader, HttpServletResponse response);
 
 }
@@ -0,0 +1,104 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.model.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Searches users in Postgres.
+ *
+ * Queries of three or more characters match anywhere in "firstname lastname email" through a
+ * pg_trgm GIN index, which also catches small typos via trigram similarity. Shorter queries
+ * cannot produce a trigram, so they only match the start of the first name, last name or email
+ * through text_pattern_ops btree indexes. The indexes are created at startup because the schema
+ * itself is generated by Hibernate.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.user-search.mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseUserSearchIndex implements UserSearchIndex {
+
+    private static final String SEARCH_TEXT = "LOWER(FIRST_NAME || ' ' || LAST_NAME || ' ' || EMAIL)";
+
+    private static final String PREFIX_MATCH =
+            "(LOWER(FIRST_NAME) LIKE ? ESCAPE '\\' OR LOWER(LAST_NAME) LIKE ? ESCAPE '\\' OR LOWER(EMAIL) LIKE ? ESCAPE '\\')";
+
+    private static final String PREFIX_SEARCH =
+            "SELECT ID, FIRST_NAME, LAST_NAME, EMAIL, ROLE FROM USERS WHERE IS_ACTIVE AND IS_ENABLED AND " + PREFIX_MATCH
+            + " ORDER BY LAST_NAME, FIRST_NAME, ID LIMIT ? OFFSET ?";
+
+    private static final String TRIGRAM_SEARCH =
+            "SELECT ID, FIRST_NAME, LAST_NAME, EMAIL, ROLE FROM USERS WHERE IS_ACTIVE AND IS_ENABLED"
+            + " AND (" + SEARCH_TEXT + " LIKE ? ESCAPE '\\' OR " + SEARCH_TEXT + " % ?)"
+            + " ORDER BY " + PREFIX_MATCH + " DESC, similarity(" + SEARCH_TEXT + ", ?) DESC, LAST_NAME, FIRST_NAME, ID"
+            + " LIMIT ? OFFSET ?";
+
+    private static final String SUBSTRING_SEARCH =
+            "SELECT ID, FIRST_NAME, LAST_NAME, EMAIL, ROLE FROM USERS WHERE IS_ACTIVE AND IS_ENABLED"
+            + " AND " + SEARCH_TEXT + " LIKE ? ESCAPE '\\'"
+            + " ORDER BY " + PREFIX_MATCH + " DESC, LAST_NAME, FIRST_NAME, ID LIMIT ? OFFSET ?";
+
+    private static final RowMapper<UserSummaryResponseDTO> ROW_MAPPER = (rs, rowNum) -> UserSummaryResponseDTO.builder()
+            .id(rs.getString("ID"))
+            .firstname(rs.getString("FIRST_NAME"))
+            .lastname(rs.getString("LAST_NAME"))
+            .email(rs.getString("EMAIL"))
+            .role(Role.valueOf(rs.getString("ROLE")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean trigramAvailable;
+
+    public DatabaseUserSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_USERS_FIRST_NAME_PREFIX ON USERS (LOWER(FIRST_NAME) text_pattern_ops)");
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_USERS_LAST_NAME_PREFIX ON USERS (LOWER(LAST_NAME) text_pattern_ops)");
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_USERS_EMAIL_PREFIX ON USERS (LOWER(EMAIL) text_pattern_ops)");
+        } catch (DataAccessException e) {
+            log.warn("Could not create user search prefix indexes: {}", e.getMessage());
+        }
+
+        try {
+            this.jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            this.jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS IDX_USERS_SEARCH_TRGM ON USERS USING GIN (" + SEARCH_TEXT + " gin_trgm_ops)");
+            this.trigramAvailable = true;
+        } catch (DataAccessException e) {
+            log.warn("pg_trgm is not available, user search falls back to unindexed substring matching: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<UserSummaryResponseDTO> search(String query, int page, int size) {
+        final String term = query.trim().toLowerCase(Locale.ROOT);
+        final String prefix = escapeLike(term) + "%";
+        final String contains = "%" + escapeLike(term) + "%";
+        final int offset = page * size;
+
+        if (term.length() < 3) {
+            return this.jdbcTemplate.query(PREFIX_SEARCH, ROW_MAPPER, prefix, prefix, prefix, size, offset);
+        }
+        if (this.trigramAvailable) {
+            return this.jdbcTemplate.query(TRIGRAM_SEARCH, ROW_MAPPER, contains, term, prefix, prefix, prefix, term, size, offset);
+        }
+        return this.jdbcTemplate.query(SUBSTRING_SEARCH, ROW_MAPPER, contains, prefix, prefix, prefix, size, offset);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
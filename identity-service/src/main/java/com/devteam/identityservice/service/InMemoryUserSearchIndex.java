@@ -0,0 +1,184 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie over the words of each active user's first name, last name and email, for
+ * deployments that would rather not depend on pg_trgm.
+ *
+ * Every query word must prefix-match one of the user's words. Results are ordered by the matched
+ * word, so paging is stable. The trie is loaded once at startup and kept up to date by the
+ * services that write users.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.user-search.mode", havingValue = "memory")
+public class InMemoryUserSearchIndex implements UserSearchIndex {
+
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<String, UserSummaryResponseDTO> users = new HashMap<>();
+
+    public InMemoryUserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final List<UserSummaryResponseDTO> activeUsers = this.userRepository.findActiveSummaries();
+        activeUsers.forEach(this::index);
+        log.info("Loaded {} user(s) into the in-memory search index", activeUsers.size());
+    }
+
+    @Override
+    public List<UserSummaryResponseDTO> search(String query, int page, int size) {
+        final String[] terms = query.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        final int wanted = (page + 1) * size;
+        final Set<String> matches = new LinkedHashSet<>();
+
+        this.lock.readLock().lock();
+        try {
+            final Node start = find(terms[0]);
+            if (start == null) {
+                return List.of();
+            }
+
+            final Deque<Node> stack = new ArrayDeque<>();
+            stack.push(start);
+            while (!stack.isEmpty() && matches.size() < wanted) {
+                final Node node = stack.pop();
+                for (String userId : node.userIds) {
+                    if (matchesAll(this.users.get(userId), terms)) {
+                        matches.add(userId);
+                    }
+                }
+                node.children.descendingMap().values().forEach(stack::push);
+            }
+
+            return matches.stream()
+                    .skip((long) page * size)
+                    .limit(size)
+                    .map(this.users::get)
+                    .toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(UserSummaryResponseDTO user) {
+        this.lock.writeLock().lock();
+        try {
+            removeUnlocked(user.getId());
+            this.users.put(user.getId(), user);
+            for (String word : words(user)) {
+                Node node = this.root;
+                for (int i = 0; i < word.length(); i++) {
+                    node = node.children.computeIfAbsent(word.charAt(i), c -> new Node());
+                }
+                node.userIds.add(user.getId());
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String userId) {
+        this.lock.writeLock().lock();
+        try {
+            removeUnlocked(userId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(String userId) {
+        final UserSummaryResponseDTO previous = this.users.remove(userId);
+        if (previous != null) {
+            for (String word : words(previous)) {
+                remove(this.root, word, 0, userId);
+            }
+        }
+    }
+
+    /**
+     * Remove the id from the word's node and prune nodes left empty; returns true if the node is empty
+     */
+    private static boolean remove(Node node, String word, int depth, String userId) {
+        if (depth == word.length()) {
+            node.userIds.remove(userId);
+        } else {
+            final Node child = node.children.get(word.charAt(depth));
+            if (child != null && remove(child, word, depth + 1, userId)) {
+                node.children.remove(word.charAt(depth));
+            }
+        }
+        return node.userIds.isEmpty() && node.children.isEmpty();
+    }
+
+    private Node find(String prefix) {
+        Node node = this.root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static boolean matchesAll(UserSummaryResponseDTO user, String[] terms) {
+        if (terms.length == 1) {
+            return true;
+        }
+        final Set<String> words = words(user);
+        for (int i = 1; i < terms.length; i++) {
+            final String term = terms[i];
+            if (words.stream().noneMatch(word -> word.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> words(UserSummaryResponseDTO user) {
+        final Set<String> words = new LinkedHashSet<>();
+        for (String name : new String[] {user.getFirstname(), user.getLastname()}) {
+            if (name == null) {
+                continue;
+            }
+            for (String word : name.toLowerCase(Locale.ROOT).split("[\\s'-]+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        if (user.getEmail() != null) {
+            words.add(user.getEmail().toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final Set<String> userIds = new TreeSet<>();
+    }
+}
@@ -3,28 +3,32 @@ package com.devteam.identityservice.service;
 import com.devteam.identityservice.exception.BusinessException;
 import com.devteam.identityservice.exception.ErrorCode;
 import com.devteam.identityservice.model.User;
-import com.devteam.identityservice.security.KeyUtils;
+import com.devteam.identityservice.security.JwtKeyRing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.PrivateKey;
-import java.security.PublicKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
 public class JwtService {
 
     private static final String TOKEN_TYPE = "token_type";
-    private final PrivateKey privateKey;
-    private final PublicKey publicKey;
+    private final JwtKeyRing keyRing;
+
+    /**
+     * JwtParser is immutable and thread-safe, so it is built once instead of on every parse
+     */
+    private final JwtParser jwtParser;
 
     @Value("${app.security.jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -34,9 +38,11 @@ public class JwtService {
 
     private final UserService userService;
 
-    public JwtService(UserService userService) throws Exception {
-        this.privateKey = KeyUtils.loadPrivateKey("keys/local-only/private-secret.pem");
-        this.publicKey = KeyUtils.loadPublicKey("keys/local-only/public-secret.pem");
+    public JwtService(UserService userService, JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
         this.userService = userService;
     }
 
@@ -67,13 +73,18 @@ public class JwtService {
                 throw new BusinessException(ErrorCode.INVALID_TOKEN_TYPE, "REFRESH_TOKEN", tokenType);
             }
 
-            if (isTokenExpired(refreshToken)) {
+            if (isTokenExpired(claims)) {
                 throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
             }
 
             final String name = claims.getSubject();
             final User user = (User) userService.loadUserByUsername(name);
 
+            // The gateway only denies tokens issued before the revocation, so a fresh one must not be minted
+            if (!user.isEnabled() || !user.isActive()) {
+                throw new BusinessException(ErrorCode.ERROR_USER_DISABLE);
+            }
+
             return generateAccessToken(user);
         } catch (BusinessException e) {
             if (e.getErrorCode() == ErrorCode.TOKEN_EXPIRED) {
@@ -90,35 +101,38 @@ public class JwtService {
             final long expiration
             ) {
         return Jwts.builder()
+                .header().keyId(this.keyRing.getActiveKid()).and()
+                .id(UUID.randomUUID().toString())
                 .claims(clams)
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(this.privateKey)
+                .signWith(this.keyRing.getSigningKey(), this.keyRing.getActiveAlgorithm().getSignatureAlgorithm())
                 .compact();
     }
 
+    /**
+     * Parse and verify the token once. The returned claims can be reused for every later check
+     * on the same request instead of parsing the token again.
+     */
+    public Claims validateToken(final String token) {
+        return extractClaims(token);
+    }
+
     public boolean isTokenValid(
-            final String token,
+            final Claims claims,
             final String expectedUsername
             ) {
-        final String username = extractUsername(token);
-        return username.equals(expectedUsername) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(final String token) {
-        return extractClaims(token).getExpiration().before(new Date());
+        return expectedUsername.equals(claims.getSubject()) && !isTokenExpired(claims);
     }
 
-    public String extractUsername(final String token) {
-        return extractClaims(token).getSubject();
+    private boolean isTokenExpired(final Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(this.publicKey)
-                    .build()
+            return this.jwtParser
                     .parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
@@ -0,0 +1,118 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.response.RevocationFeedResponseDTO;
+import com.devteam.identityservice.dto.response.RevocationResponseDTO;
+import com.devteam.identityservice.model.Revocation;
+import com.devteam.identityservice.model.RevocationType;
+import com.devteam.identityservice.repository.RevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+@Slf4j
+@Service
+public class RevocationService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final RevocationRepository revocationRepository;
+
+    @Value("${app.security.jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    /**
+     * How long after its insert a revocation may still commit. Entries this recent are re-sent
+     * even at or below the cursor, since a lower id can become visible after a higher one.
+     */
+    @Value("${app.security.revocation.feed-lookback-seconds:60}")
+    private long feedLookbackSeconds;
+
+    public RevocationService(RevocationRepository revocationRepository) {
+        this.revocationRepository = revocationRepository;
+    }
+
+    /**
+     * Revoke every access token of the user issued so far
+     */
+    public void revokeUser(final String userId) {
+        final Instant now = Instant.now();
+        save(RevocationType.USER, userId, now, now.plusMillis(this.accessTokenExpiration));
+    }
+
+    /**
+     * Revoke a single token until it expires
+     */
+    public void revokeToken(final String tokenId, final Instant tokenExpiration) {
+        save(RevocationType.TOKEN, tokenId, Instant.now(), tokenExpiration);
+    }
+
+    /**
+     * Whether the token was revoked by itself (logout)
+     */
+    public boolean isTokenRevoked(final String tokenId) {
+        return tokenId != null && this.revocationRepository.existsByTypeAndSubjectAndExpiresAtAfter(
+                RevocationType.TOKEN, tokenId, Instant.now());
+    }
+
+    /**
+     * Whether every token of the user was revoked after this one was issued. Issue times are whole
+     * seconds, so a token issued in the same second as the revocation counts as revoked, as it does
+     * at the gateway.
+     */
+    public boolean isUserRevoked(final String userId, final Date issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        final Instant issued = issuedAt == null ? Instant.EPOCH : issuedAt.toInstant();
+        return this.revocationRepository.existsByTypeAndSubjectAndRevokedAtGreaterThanEqual(
+                RevocationType.USER, userId, issued);
+    }
+
+    /**
+     * Revocations after the cursor, plus recent ones at or below it that may have committed late.
+     * Re-sent entries are harmless: applying a revocation twice has no further effect.
+     */
+    public RevocationFeedResponseDTO getRevocationsSince(final long since, final int limit) {
+        final Instant now = Instant.now();
+        final int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        final List<Revocation> page = this.revocationRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+                since, now, Limit.of(pageSize));
+
+        final List<Revocation> revocations = new ArrayList<>();
+        if (since > 0) {
+            revocations.addAll(this.revocationRepository.findByIdLessThanEqualAndRevokedAtAfterAndExpiresAtAfterOrderByIdAsc(
+                    since, now.minusSeconds(this.feedLookbackSeconds), now));
+        }
+        revocations.addAll(page);
+
+        final long cursor = page.isEmpty() ? since : page.get(page.size() - 1).getId();
+        return RevocationFeedResponseDTO.builder()
+                .revocations(revocations.stream()
+                        .map(revocation -> RevocationResponseDTO.builder()
+                                .type(revocation.getType())
+                                .subject(revocation.getSubject())
+                                .revokedAt(revocation.getRevokedAt().getEpochSecond())
+                                .expiresAt(revocation.getExpiresAt().getEpochSecond())
+                                .build())
+                        .toList())
+                .cursor(cursor)
+                .hasMore(page.size() == pageSize)
+                .build();
+    }
+
+    private void save(RevocationType type, String subject, Instant revokedAt, Instant expiresAt) {
+        this.revocationRepository.save(Revocation.builder()
+                .type(type)
+                .subject(subject)
+                .revokedAt(revokedAt)
+                .expiresAt(expiresAt)
+                .build());
+        log.info("Revoked {} {}", type, subject);
+    }
+}
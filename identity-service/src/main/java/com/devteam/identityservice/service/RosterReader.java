@@ -0,0 +1,160 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.request.RegistrationRequestDTO;
+import com.devteam.identityservice.exception.BusinessException;
+import com.devteam.identityservice.exception.ErrorCode;
+import com.devteam.identityservice.model.Role;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads a roster one line at a time, so an import never holds the whole file in memory.
+ *
+ * CSV files need a header row naming the columns (firstname, lastname, email, password and
+ * optionally role); NDJSON files hold one registration object per line. A missing role means STUDENT.
+ */
+class RosterReader {
+
+    enum Format { CSV, NDJSON }
+
+    record Row(long line, RegistrationRequestDTO user, String error) {}
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectReader jsonReader;
+    private Map<String, Integer> columns;
+    private long line;
+
+    RosterReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(RegistrationRequestDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Return the next non-blank row, or null at the end of the file
+     */
+    Row next() throws IOException {
+        String text;
+        do {
+            text = this.reader.readLine();
+            this.line++;
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        if (this.format == Format.NDJSON) {
+            return readJson(text);
+        }
+        if (this.columns == null) {
+            readHeader(text);
+            return next();
+        }
+        return readCsv(text);
+    }
+
+    private Row readJson(String text) {
+        try {
+            final RegistrationRequestDTO user = this.jsonReader.readValue(text);
+            if (user.getRole() == null) {
+                user.setRole(Role.STUDENT);
+            }
+            user.setConfirmPassword(user.getPassword());
+            return new Row(this.line, user, null);
+        } catch (JsonProcessingException e) {
+            return new Row(this.line, null, "Line is not a valid user object");
+        }
+    }
+
+    private void readHeader(String text) {
+        this.columns = new HashMap<>();
+        final List<String> names = splitCsv(text);
+        if (names == null) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "unterminated quoted field in CSV header");
+        }
+        for (int i = 0; i < names.size(); i++) {
+            this.columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("firstname", "lastname", "email", "password")) {
+            if (!this.columns.containsKey(required)) {
+                throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "missing CSV column " + required);
+            }
+        }
+    }
+
+    private Row readCsv(String text) {
+        final List<String> values = splitCsv(text);
+        if (values == null) {
+            return new Row(this.line, null, "Unterminated quoted field");
+        }
+
+        final String role = column(values, "role");
+        final String password = values.size() > this.columns.get("password") ? values.get(this.columns.get("password")) : null;
+        final RegistrationRequestDTO user = RegistrationRequestDTO.builder()
+                .firstname(column(values, "firstname"))
+                .lastname(column(values, "lastname"))
+                .email(column(values, "email"))
+                .password(password)
+                .confirmPassword(password)
+                .build();
+        try {
+            user.setRole(role == null || role.isEmpty() ? Role.STUDENT : Role.valueOf(role.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return new Row(this.line, user, "Unknown role " + role);
+        }
+        return new Row(this.line, user, null);
+    }
+
+    private String column(List<String> values, String name) {
+        final Integer index = this.columns.get(name);
+        return index != null && index < values.size() ? values.get(index).trim() : null;
+    }
+
+    /**
+     * Split one RFC 4180 line. Quoted fields may contain commas and doubled quotes but not line
+     * breaks. Returns null when a quote is left open.
+     */
+    private static List<String> splitCsv(String text) {
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,310 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.request.RegistrationRequestDTO;
+import com.devteam.identityservice.dto.response.UserImportResponseDTO;
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.exception.BusinessException;
+import com.devteam.identityservice.exception.ErrorCode;
+import com.devteam.identityservice.model.Role;
+import com.devteam.identityservice.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports a roster of users in chunks.
+ *
+ * Each chunk is validated, checked against existing emails with one query, hashed in parallel on
+ * a dedicated pool (so an import never competes with logins for the login hashing pool) and
+ * inserted with a single JDBC batch. A connection is only held while a chunk is checked or
+ * inserted, never while passwords are hashed. Failed rows are reported and skipped.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_USER = """
+            INSERT INTO USERS (ID, FIRST_NAME, LAST_NAME, EMAIL, PASSWORD, ROLE, IS_ENABLED, IS_LOCKED,
+                IS_CREDENTIALS_EXPIRED, IS_ACTIVE, CREDENTIALS_EXPIRED, IS_EMAIL_VERIFIED, CREATED_DATE)
+            VALUES (?, ?, ?, ?, ?, ?, TRUE, FALSE, FALSE, TRUE, FALSE, FALSE, ?)
+            ON CONFLICT (EMAIL) DO NOTHING
+            """;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final UserRepository userRepository;
+    private final UserSearchIndex userSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final int batchSize;
+    private final long maxRows;
+    private final int maxReportedErrors;
+
+    public UserImportService(
+            UserRepository userRepository,
+            UserSearchIndex userSearchIndex,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${app.security.password.bcrypt-strength:10}") int strength,
+            @Value("${app.user-import.hashing-threads:0}") int threads,
+            @Value("${app.user-import.batch-size:500}") int batchSize,
+            @Value("${app.user-import.max-rows:20000}") long maxRows,
+            @Value("${app.user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userRepository = userRepository;
+        this.userSearchIndex = userSearchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxReportedErrors = maxReportedErrors;
+
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger();
+        // A full queue makes the importing thread hash as well, which throttles the reader
+        this.hashingExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(batchSize),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "user-import-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.hashingExecutor.shutdownNow();
+    }
+
+    /**
+     * Import a CSV or NDJSON roster. Admins may import teachers and students, teachers only students.
+     *
+     * Rows are committed chunk by chunk as the file streams in, so a file over the row limit is not
+     * rejected outright: the rows within the limit are imported and the result is marked truncated.
+     */
+    public UserImportResponseDTO importUsers(InputStream content, String contentType, Role importerRole) {
+        if (importerRole != Role.ADMIN && importerRole != Role.TEACHER) {
+            throw new BusinessException(ErrorCode.IMPORT_NOT_ALLOWED);
+        }
+        final RosterReader.Format format = rosterFormat(contentType);
+
+        final ImportResult result = new ImportResult(this.maxReportedErrors);
+        final Set<String> seenEmails = new HashSet<>();
+        final List<RosterReader.Row> chunk = new ArrayList<>(this.batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8))) {
+            final RosterReader rosterReader = new RosterReader(reader, format, this.objectMapper);
+            RosterReader.Row row;
+            while ((row = rosterReader.next()) != null) {
+                if (result.totalRows == this.maxRows) {
+                    result.truncate(row, "more than " + this.maxRows + " rows, the rest of the file was not imported");
+                    break;
+                }
+                result.totalRows++;
+                if (accept(row, importerRole, seenEmails, result)) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == this.batchSize) {
+                    flush(chunk, result);
+                }
+            }
+            flush(chunk, result);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, e.getMessage());
+        }
+
+        log.info("Imported {} of {} user(s), {} failed", result.imported, result.totalRows, result.failed);
+        return UserImportResponseDTO.builder()
+                .totalRows(result.totalRows)
+                .imported(result.imported)
+                .failed(result.failed)
+                .errors(result.errors)
+                .truncated(result.truncated)
+                .build();
+    }
+
+    private static RosterReader.Format rosterFormat(String contentType) {
+        final MediaType mediaType = contentType != null ? MediaType.parseMediaType(contentType) : MediaType.ALL;
+        if (mediaType.isCompatibleWith(TEXT_CSV) && !mediaType.isWildcardType()) {
+            return RosterReader.Format.CSV;
+        }
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON) && !mediaType.isWildcardType()) {
+            return RosterReader.Format.NDJSON;
+        }
+        throw new BusinessException(ErrorCode.UNSUPPORTED_IMPORT_FORMAT);
+    }
+
+    private boolean accept(RosterReader.Row row, Role importerRole, Set<String> seenEmails, ImportResult result) {
+        final RegistrationRequestDTO user = row.user();
+        if (row.error() != null) {
+            result.fail(row, ErrorCode.INVALID_ROW.getCode(), row.error());
+            return false;
+        }
+
+        final Set<ConstraintViolation<RegistrationRequestDTO>> violations = this.validator.validate(user);
+        if (!violations.isEmpty()) {
+            final ConstraintViolation<RegistrationRequestDTO> violation = violations.iterator().next();
+            result.fail(row, violation.getMessage(), violation.getPropertyPath() + " is invalid");
+            return false;
+        }
+        if (user.getRole() == Role.ADMIN || (importerRole == Role.TEACHER && user.getRole() != Role.STUDENT)) {
+            result.fail(row, ErrorCode.INVALID_ROLE);
+            return false;
+        }
+        if (!seenEmails.add(user.getEmail().toLowerCase(Locale.ROOT))) {
+            result.fail(row, ErrorCode.DUPLICATE_EMAIL_IN_FILE);
+            return false;
+        }
+        return true;
+    }
+
+    private void flush(List<RosterReader.Row> chunk, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        final Set<String> existing = new HashSet<>(this.userRepository.findExistingEmails(
+                chunk.stream().map(row -> row.user().getEmail().toLowerCase(Locale.ROOT)).toList()));
+
+        final List<RosterReader.Row> rows = new ArrayList<>(chunk.size());
+        for (RosterReader.Row row : chunk) {
+            if (existing.contains(row.user().getEmail().toLowerCase(Locale.ROOT))) {
+                result.fail(row, ErrorCode.EMAIL_ALREADY_EXISTS);
+            } else {
+                rows.add(row);
+            }
+        }
+        chunk.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        final List<PendingUser> pending = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> new PendingUser(row, UUID.randomUUID().toString(), this.passwordEncoder.encode(row.user().getPassword())),
+                        this.hashingExecutor))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        final int[] counts = this.transactionTemplate.execute(status -> this.jdbcTemplate.batchUpdate(INSERT_USER, pending, pending.size(), (statement, user) -> {
+            final RegistrationRequestDTO request = user.row().user();
+            statement.setString(1, user.id());
+            statement.setString(2, request.getFirstname());
+            statement.setString(3, request.getLastname());
+            statement.setString(4, request.getEmail());
+            statement.setString(5, user.passwordHash());
+            statement.setString(6, request.getRole().name());
+            statement.setTimestamp(7, now);
+        })[0]);
+
+        for (int i = 0; i < pending.size(); i++) {
+            if (counts[i] == 0) {
+                // Registered concurrently since the existence check
+                result.fail(pending.get(i).row(), ErrorCode.EMAIL_ALREADY_EXISTS);
+            } else if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                result.imported++;
+                this.userSearchIndex.index(pending.get(i).toUserSummary());
+            }
+        }
+    }
+
+    private record PendingUser(RosterReader.Row row, String id, String passwordHash) {
+
+        private UserSummaryResponseDTO toUserSummary() {
+            final RegistrationRequestDTO user = this.row.user();
+            return UserSummaryResponseDTO.builder()
+                    .id(this.id)
+                    .firstname(user.getFirstname())
+                    .lastname(user.getLastname())
+                    .email(user.getEmail())
+                    .role(user.getRole())
+                    .build();
+        }
+    }
+
+    private static final class ImportResult {
+
+        private final int maxReportedErrors;
+        private final List<UserImportResponseDTO.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private boolean truncated;
+
+        private ImportResult(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(RosterReader.Row row, ErrorCode errorCode) {
+            fail(row, errorCode.getCode(), errorCode.getDefaultMessage());
+        }
+
+        /**
+         * Stop at the given row, which is neither imported nor counted
+         */
+        private void truncate(RosterReader.Row row, String reason) {
+            this.truncated = true;
+            this.errors.add(UserImportResponseDTO.RowError.builder()
+                    .line(row.line())
+                    .code(ErrorCode.INVALID_IMPORT_FILE.getCode())
+                    .message(String.format(ErrorCode.INVALID_IMPORT_FILE.getDefaultMessage(), reason))
+                    .build());
+        }
+
+        private void fail(RosterReader.Row row, String code, String message) {
+            this.failed++;
+            if (this.errors.size() < this.maxReportedErrors) {
+                this.errors.add(UserImportResponseDTO.RowError.builder()
+                        .line(row.line())
+                        .email(row.user() != null ? row.user().getEmail() : null)
+                        .code(code)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
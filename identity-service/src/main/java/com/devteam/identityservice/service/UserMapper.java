@@ -2,6 +2,9 @@ package com.devteam.identityservice.service;
 
 import com.devteam.identityservice.dto.request.RegistrationRequestDTO;
 import com.devteam.identityservice.dto.request.ProfileUpdateRequestDTO;
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.model.Role;
+import io.jsonwebtoken.Claims;
 import org.apache.commons.lang3.StringUtils;
 import com.devteam.identityservice.model.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -43,4 +46,29 @@ public class UserMapper {
                 .build();
     }
 
+    public UserSummaryResponseDTO toUserSummary(User user) {
+        return UserSummaryResponseDTO.builder()
+                .id(user.getId())
+                .firstname(user.getFirstname())
+                .lastname(user.getLastname())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .build();
+    }
+
+    /**
+     * Build a principal from the signed claims of an access token, without a database lookup
+     */
+    public User toUser(Claims claims) {
+        final String role = claims.get("role", String.class);
+        return User.builder()
+                .id(claims.get("userId", String.class))
+                .email(claims.getSubject())
+                .firstname(claims.get("firstname", String.class))
+                .lastname(claims.get("lastname", String.class))
+                .role(role != null ? Role.valueOf(role) : null)
+                .active(true)
+                .build();
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+
+import java.util.List;
+
+/**
+ * Type-ahead search over active users by partial name or email.
+ *
+ * app.user-search.mode selects the backend: "database" (default) queries Postgres through trigram
+ * and prefix indexes, "memory" keeps a prefix trie for small deployments. Writers report user
+ * changes through {@link #index} and {@link #remove}; the database backend ignores them.
+ */
+public interface UserSearchIndex {
+
+    List<UserSummaryResponseDTO> search(String query, int page, int size);
+
+    default void index(UserSummaryResponseDTO user) {
+    }
+
+    default void remove(String userId) {
+    }
+}
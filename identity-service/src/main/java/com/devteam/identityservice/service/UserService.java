@@ -1,31 +1,47 @@
 package com.devteam.identityservice.service;
 
 import com.devteam.identityservice.dto.response.UserResponseDTO;
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
 import com.devteam.identityservice.exception.BusinessException;
 import com.devteam.identityservice.exception.ErrorCode;
 import com.devteam.identityservice.repository.UserRepository;
 import com.devteam.identityservice.dto.request.PasswordChangeRequestDTO;
 import com.devteam.identityservice.dto.request.ProfileUpdateRequestDTO;
 import lombok.extern.slf4j.Slf4j;
+import com.devteam.identityservice.model.Role;
 import com.devteam.identityservice.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
 @Service
 @Slf4j
-public class UserService implements UserServiceInterface {
+public class UserService implements UserServiceInterface, UserDetailsPasswordService {
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final UserStatusCache userStatusCache;
+    private final RevocationService revocationService;
+    private final UserSearchIndex userSearchIndex;
 
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper, UserStatusCache userStatusCache, RevocationService revocationService, UserSearchIndex userSearchIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.userStatusCache = userStatusCache;
+        this.revocationService = revocationService;
+        this.userSearchIndex = userSearchIndex;
     }
 
 
@@ -40,6 +56,34 @@ public class UserService implements UserServiceInterface {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + userEmail));
     }
 
+    /**
+     * Called by the authentication provider after a successful login when the stored hash
+     * was made with a different BCrypt cost than the configured one
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        final User user = (User) userDetails;
+        user.setPassword(newEncodedPassword);
+        log.debug("Rehashed password of user {} with the configured work factor", user.getId());
+        return this.userRepository.save(user);
+    }
+
+    @Override
+    public List<UserSummaryResponseDTO> getUsers(Collection<String> userIds) {
+        return this.userRepository.findSummariesByIdIn(new HashSet<>(userIds));
+    }
+
+    @Override
+    public List<UserSummaryResponseDTO> searchUsers(String query, int page, int size, Role searcherRole) {
+        if (searcherRole != Role.ADMIN && searcherRole != Role.TEACHER) {
+            throw new BusinessException(ErrorCode.USER_SEARCH_NOT_ALLOWED);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return this.userSearchIndex.search(query, Math.max(0, page), Math.min(Math.max(1, size), MAX_SEARCH_PAGE_SIZE));
+    }
+
     @Override
     public UserResponseDTO getProfile(String userId) {
         final User user = findUserById(userId);
@@ -58,6 +102,8 @@ public class UserService implements UserServiceInterface {
         final User savedUser = findUserById(userId);
         this.userMapper.mergerUserInfo(savedUser, request);
         this.userRepository.save(savedUser);
+        this.userStatusCache.evict(userId);
+        this.userSearchIndex.index(this.userMapper.toUserSummary(savedUser));
     }
 
     @Override
@@ -88,6 +134,9 @@ public class UserService implements UserServiceInterface {
         user.setEnabled(false);
         user.setActive(false);
         this.userRepository.save(user);
+        this.userStatusCache.evict(userId);
+        this.userSearchIndex.remove(userId);
+        this.revocationService.revokeUser(userId);
     }
 
     @Override
@@ -101,6 +150,8 @@ public class UserService implements UserServiceInterface {
         user.setEnabled(true);
         user.setActive(true);
         this.userRepository.save(user);
+        this.userStatusCache.evict(userId);
+        this.userSearchIndex.index(this.userMapper.toUserSummary(user));
     }
 
 //    Not use this
@@ -108,6 +159,9 @@ public class UserService implements UserServiceInterface {
     public void deleteAccount(String userId) {
         final User user = findUserById(userId);
         this.userRepository.delete(user);
+        this.userStatusCache.evict(userId);
+        this.userSearchIndex.remove(userId);
+        this.revocationService.revokeUser(userId);
     }
 
 }
\ No newline at end of file
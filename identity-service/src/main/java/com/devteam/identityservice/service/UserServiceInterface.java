@@ -3,12 +3,21 @@ package com.devteam.identityservice.service;
 import com.devteam.identityservice.dto.request.PasswordChangeRequestDTO;
 import com.devteam.identityservice.dto.request.ProfileUpdateRequestDTO;
 import com.devteam.identityservice.dto.response.UserResponseDTO;
+import com.devteam.identityservice.dto.response.UserSummaryResponseDTO;
+import com.devteam.identityservice.model.Role;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserServiceInterface extends UserDetailsService {
 
     UserResponseDTO getProfile(String userId);
 
+    List<UserSummaryResponseDTO> getUsers(Collection<String> userIds);
+
+    List<UserSummaryResponseDTO> searchUsers(String query, int page, int size, Role searcherRole);
+
     void updateProfileInformation(ProfileUpdateRequestDTO request, String userId);
 
     void changePassword(PasswordChangeRequestDTO request, String userId);
@@ -0,0 +1,53 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.model.UserStatus;
+import com.devteam.identityservice.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-TTL cache of {@link UserStatus} used by claims-only authentication.
+ *
+ * Lets a deactivated account or a changed role take effect within one TTL, without a database
+ * round trip on every request. UserService evicts an entry whenever it changes that user.
+ */
+@Service
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<String, Optional<UserStatus>> cache;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${app.security.user-status-cache.enabled:true}") boolean enabled,
+            @Value("${app.security.user-status-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.security.user-status-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @return the user's status, or empty if the user no longer exists
+     */
+    public Optional<UserStatus> getStatus(String userId) {
+        return this.cache.get(userId, this.userRepository::findStatusById);
+    }
+
+    public void evict(String userId) {
+        this.cache.invalidate(userId);
+    }
+}
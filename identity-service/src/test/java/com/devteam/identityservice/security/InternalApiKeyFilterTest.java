@@ -0,0 +1,58 @@
+package com.devteam.identityservice.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalApiKeyFilterTest {
+
+    private static final String FEED_URL = "/internal/v1/identity/revocations";
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesMatchingKey() throws Exception {
+        filter(new InternalApiKeyFilter("secret"), FEED_URL, "secret");
+
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_SERVICE");
+    }
+
+    @Test
+    void rejectsWrongKey() throws Exception {
+        filter(new InternalApiKeyFilter("secret"), FEED_URL, "guess");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void rejectsEveryKeyWhenNoneIsConfigured() throws Exception {
+        filter(new InternalApiKeyFilter(""), FEED_URL, "");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void ignoresPublicRoutes() throws Exception {
+        filter(new InternalApiKeyFilter("secret"), "/api/v1/identity/me/", "secret");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void filter(InternalApiKeyFilter filter, String path, String key) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader(InternalApiKeyFilter.HEADER, key);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
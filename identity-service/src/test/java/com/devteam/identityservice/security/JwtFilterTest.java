@@ -0,0 +1,162 @@
+package com.devteam.identityservice.security;
+
+import com.devteam.identityservice.model.Role;
+import com.devteam.identityservice.model.UserStatus;
+import com.devteam.identityservice.service.JwtService;
+import com.devteam.identityservice.service.RevocationService;
+import com.devteam.identityservice.service.UserMapper;
+import com.devteam.identityservice.service.UserStatusCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+    private static final String TOKEN = "signed.jwt.token";
+    private static final String PROFILE_URL = "/api/v1/identity/me/";
+
+    private final JwtService jwtService = mock(JwtService.class);
+    private final UserStatusCache userStatusCache = mock(UserStatusCache.class);
+    private final RevocationService revocationService = mock(RevocationService.class);
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        final Claims claims = Jwts.claims()
+                .id("token-1")
+                .subject("student@example.com")
+                .add("userId", "user-1")
+                .add("role", Role.STUDENT.name())
+                .build();
+        when(this.jwtService.validateToken(TOKEN)).thenReturn(claims);
+        when(this.jwtService.isTokenValid(any(Claims.class), anyString())).thenReturn(true);
+        when(this.userStatusCache.isEnabled()).thenReturn(true);
+
+        this.jwtFilter = new JwtFilter(
+                this.jwtService,
+                mock(UserDetailsService.class),
+                new UserMapper(mock(PasswordEncoder.class)),
+                this.userStatusCache,
+                this.revocationService,
+                true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesActiveUserFromClaims() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(true, true, Role.STUDENT)));
+
+        final MockFilterChain chain = filter(PROFILE_URL);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void leavesDeactivatedUserUnauthenticated() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(false, false, Role.STUDENT)));
+
+        final MockFilterChain chain = filter(PROFILE_URL);
+
+        // The request goes on without a principal, which UserController answers with 401
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void authenticatesDeactivatedUserOnReactivation() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(false, false, Role.STUDENT)));
+
+        filter("/api/v1/identity/me/reactivate");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void leavesDeletedUserUnauthenticatedOnReactivation() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.empty());
+
+        filter("/api/v1/identity/me/reactivate");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesInactiveUserUnauthenticated() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(true, false, Role.STUDENT)));
+
+        filter(PROFILE_URL);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesDeletedUserUnauthenticated() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.empty());
+
+        filter(PROFILE_URL);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesRevokedTokenUnauthenticated() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(true, true, Role.STUDENT)));
+        when(this.revocationService.isTokenRevoked("token-1")).thenReturn(true);
+
+        filter(PROFILE_URL);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesRevokedUserUnauthenticated() throws Exception {
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(true, true, Role.STUDENT)));
+        when(this.revocationService.isUserRevoked(eq("user-1"), any())).thenReturn(true);
+
+        filter(PROFILE_URL);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void ignoresUserRevocationOnReactivation() throws Exception {
+        // Deactivation revokes every token of the user, including the one used to reactivate
+        when(this.userStatusCache.getStatus("user-1")).thenReturn(Optional.of(new UserStatus(false, false, Role.STUDENT)));
+        when(this.revocationService.isUserRevoked(eq("user-1"), any())).thenReturn(true);
+
+        filter("/api/v1/identity/me/reactivate");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    private MockFilterChain filter(String path) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        final MockFilterChain chain = new MockFilterChain();
+        this.jwtFilter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+}
@@ -0,0 +1,85 @@
+package com.devteam.identityservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify throughput of an access token for each {@link SigningAlgorithm}, with the same
+ * header and claims JwtService issues. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtSigningBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String KID = "benchmark";
+
+    @Param({"RS256", "ES256", "ED25519"})
+    private SigningAlgorithm algorithm;
+
+    private KeyPair keyPair;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance(this.algorithm.getKeyFactoryAlgorithm());
+        switch (this.algorithm) {
+            case RS256 -> generator.initialize(2048);
+            case ES256 -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+            case ED25519 -> { }
+        }
+        this.keyPair = generator.generateKeyPair();
+        this.parser = Jwts.parser().verifyWith(this.keyPair.getPublic()).build();
+        this.token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        final long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .header().keyId(KID).and()
+                .id(UUID.randomUUID().toString())
+                .claims(Map.of(
+                        "token_type", "ACCESS_TOKEN",
+                        "role", "STUDENT",
+                        "userId", "6f1c2a9e-0b7d-4c1e-9a55-3d2f8e7b6a10",
+                        "email", "student@example.com",
+                        "firstname", "Jane",
+                        "lastname", "Doe"))
+                .subject("student@example.com")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 86_400_000))
+                .signWith(this.keyPair.getPrivate(), this.algorithm.getSignatureAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return this.parser.parseSignedClaims(this.token).getPayload();
+    }
+}
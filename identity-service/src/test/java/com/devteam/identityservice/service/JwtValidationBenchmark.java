@@ -0,0 +1,92 @@
+package com.devteam.identityservice.service;
+
+import com.devteam.identityservice.model.Role;
+import com.devteam.identityservice.model.User;
+import com.devteam.identityservice.security.JwtKeyProperties;
+import com.devteam.identityservice.security.JwtKeyRing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU per authenticated request spent on the token in JwtFilter: the former pipeline, which built a
+ * parser and parsed and verified the token three times, against {@link JwtService#validateToken}
+ * followed by {@link JwtService#isTokenValid} on the returned claims. Uses the local RS256 key. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=JwtValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private JwtKeyRing keyRing;
+    private JwtService jwtService;
+    private String token;
+    private String username;
+
+    @Setup
+    public void setUp() throws Exception {
+        final JwtKeyProperties.Key key = new JwtKeyProperties.Key();
+        key.setKid("local-rsa");
+        key.setPrivateKey("keys/local-only/private-secret.pem");
+        key.setPublicKey("keys/local-only/public-secret.pem");
+        final JwtKeyProperties properties = new JwtKeyProperties();
+        properties.setActiveKid("local-rsa");
+        properties.setKeys(List.of(key));
+
+        this.keyRing = new JwtKeyRing(properties);
+        this.jwtService = new JwtService(null, this.keyRing);
+        ReflectionTestUtils.setField(this.jwtService, "accessTokenExpiration", 86_400_000L);
+
+        final User user = new User();
+        user.setId("6f1c2a9e-0b7d-4c1e-9a55-3d2f8e7b6a10");
+        user.setEmail("student@example.com");
+        user.setFirstname("Jane");
+        user.setLastname("Doe");
+        user.setRole(Role.STUDENT);
+        this.token = this.jwtService.generateAccessToken(user);
+        this.username = user.getUsername();
+    }
+
+    /**
+     * extractUsername, then isTokenValid calling extractUsername and isTokenExpired, each on a new parser
+     */
+    @Benchmark
+    public boolean threeParses() {
+        final String subject = parseWithNewParser().getSubject();
+        return subject.equals(this.username)
+                && parseWithNewParser().getSubject().equals(subject)
+                && !parseWithNewParser().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        final Claims claims = this.jwtService.validateToken(this.token);
+        return this.jwtService.isTokenValid(claims, this.username);
+    }
+
+    private Claims parseWithNewParser() {
+        return Jwts.parser()
+                .keyLocator(this.keyRing)
+                .build()
+                .parseSignedClaims(this.token)
+                .getPayload();
+    }
+}